@@ -20,13 +20,14 @@ import com.google.common.collect.SetMultimap;
 import com.google.common.html.HtmlEscapers;
 import com.google.common.io.MoreFiles;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -43,7 +44,6 @@ import org.sosy_lab.cpachecker.cfa.model.FunctionEntryNode;
 import org.sosy_lab.cpachecker.cfa.model.FunctionExitNode;
 import org.sosy_lab.cpachecker.util.CFATraversal;
 import org.sosy_lab.cpachecker.util.CFATraversal.CFAVisitor;
-import org.sosy_lab.cpachecker.util.CFATraversal.CompositeCFAVisitor;
 import org.sosy_lab.cpachecker.util.CFATraversal.DefaultCFAVisitor;
 import org.sosy_lab.cpachecker.util.CFATraversal.NodeCollectingCFAVisitor;
 import org.sosy_lab.cpachecker.util.CFATraversal.TraversalProcess;
@@ -66,14 +66,12 @@ import org.sosy_lab.cpachecker.util.CFATraversal.TraversalProcess;
 public final class DOTBuilder2 {
 
   private final CFA cfa;
-  private final CFAJSONBuilder jsoner;
   private final DOTViewBuilder dotter;
 
   public DOTBuilder2(CFA pCfa) {
     cfa = checkNotNull(pCfa);
-    jsoner = new CFAJSONBuilder();
     dotter = new DOTViewBuilder(cfa);
-    CFAVisitor vis = new NodeCollectingCFAVisitor(new CompositeCFAVisitor(jsoner, dotter));
+    CFAVisitor vis = new NodeCollectingCFAVisitor(dotter);
     for (FunctionEntryNode entryNode : cfa.getAllFunctionHeads()) {
       CFATraversal.dfs().ignoreFunctionCalls().traverse(entryNode, vis);
     }
@@ -89,9 +87,26 @@ public final class DOTBuilder2 {
 
   public void writeCfaInfo(Writer out) throws IOException {
     out.write("\"nodes\":");
-    JSON.writeJSONString(jsoner.getNodes(), out);
+    writeCfaJson(out, true);
     out.write(",\n\"edges\":");
-    JSON.writeJSONString(jsoner.getEdges(), out);
+    writeCfaJson(out, false);
+  }
+
+  /**
+   * Writes the JSON array of either all nodes or all edges of the CFA while traversing it, such
+   * that the JSON objects of a large CFA never need to be kept in memory all at once.
+   */
+  private void writeCfaJson(Writer out, boolean pWriteNodes) throws IOException {
+    CFAVisitor vis = new NodeCollectingCFAVisitor(new CFAJSONBuilder(out, pWriteNodes));
+    out.write('[');
+    try {
+      for (FunctionEntryNode entryNode : cfa.getAllFunctionHeads()) {
+        CFATraversal.dfs().ignoreFunctionCalls().traverse(entryNode, vis);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    out.write(']');
   }
 
   public void writeFunctionCallEdges(Writer out) throws IOException {
@@ -345,13 +360,23 @@ public final class DOTBuilder2 {
     }
   }
 
-  /** output information about CFA nodes and edges as JSON */
+  /** output information about either CFA nodes or CFA edges as elements of a JSON array */
   private static class CFAJSONBuilder extends DefaultCFAVisitor {
-    private final Map<Integer, Object> nodes = new HashMap<>();
-    private final Map<String, Object> edges = new HashMap<>();
+    private final Writer out;
+    private final boolean writeNodes;
+    private final Set<String> writtenEdges = new HashSet<>();
+    private boolean empty = true;
+
+    private CFAJSONBuilder(Writer pOut, boolean pWriteNodes) {
+      out = pOut;
+      writeNodes = pWriteNodes;
+    }
 
     @Override
     public TraversalProcess visitNode(CFANode node) {
+      if (!writeNodes) {
+        return TraversalProcess.CONTINUE;
+      }
       Map<String, Object> jnode = new HashMap<>();
       jnode.put("index", node.getNodeNumber());
       jnode.put("rpid", node.getReversePostorderId());
@@ -359,16 +384,19 @@ public final class DOTBuilder2 {
       jnode.put("type", determineNodeType(node));
       jnode.put("loop", node.isLoopStart());
 
-      nodes.put(node.getNodeNumber(), jnode);
+      write(jnode);
 
       return TraversalProcess.CONTINUE;
     }
 
     @Override
     public TraversalProcess visitEdge(CFAEdge edge) {
-      Map<String, Object> jedge = new HashMap<>();
       int src = edge.getPredecessor().getNodeNumber();
       int target = edge.getSuccessor().getNodeNumber();
+      if (writeNodes || !writtenEdges.add(src + "->" + target)) {
+        return TraversalProcess.CONTINUE;
+      }
+      Map<String, Object> jedge = new HashMap<>();
       jedge.put("line", edge.getFileLocation().getStartingLineInOrigin());
       jedge.put("file", edge.getFileLocation().getFileName());
       jedge.put("source", src);
@@ -376,7 +404,7 @@ public final class DOTBuilder2 {
       jedge.put("stmt", getEdgeText(edge));
       jedge.put("type", edge.getEdgeType().toString());
 
-      edges.put("" + src + "->" + target, jedge);
+      write(jedge);
 
       return TraversalProcess.CONTINUE;
     }
@@ -390,12 +418,16 @@ public final class DOTBuilder2 {
       return "";
     }
 
-    Collection<Object> getNodes() {
-      return nodes.values();
-    }
-
-    Collection<Object> getEdges() {
-      return edges.values();
+    private void write(Object pElement) {
+      try {
+        if (!empty) {
+          out.write(',');
+        }
+        empty = false;
+        JSON.writeJSONString(pElement, out);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
   }
 }
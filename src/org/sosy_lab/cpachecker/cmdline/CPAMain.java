@@ -330,18 +330,7 @@ public class CPAMain {
     Optional<String> configFile =
         Optional.ofNullable(cmdLineOptions.remove(CmdLineArguments.CONFIGURATION_FILE_OPTION));
 
-    // create initial configuration
-    // from default values, config file, and command-line arguments
-    ConfigurationBuilder configBuilder = Configuration.builder();
-    configBuilder.setOptions(EXTERN_OPTION_DEFAULTS);
-    if (configFile.isPresent()) {
-      configBuilder.setOption(
-          APPROACH_NAME_OPTION, extractApproachNameFromConfigName(configFile.orElseThrow()));
-      configBuilder.loadFromFile(configFile.orElseThrow());
-    }
-    configBuilder.setOptions(cmdLineOptions);
-
-    Configuration config = configBuilder.build();
+    Configuration config = createInitialConfiguration(cmdLineOptions, configFile);
 
     // We want to be able to use options of type "File" with some additional
     // logic provided by FileTypeConverter, so we create such a converter,
@@ -361,15 +350,10 @@ public class CPAMain {
             .addConverter(FileOption.class, fileTypeConverter)
             .build();
 
-    // Read witness file if present, switch to appropriate config and adjust cmdline options
-    config = handleWitnessOptions(config, cmdLineOptions, configFile);
+    config = handleWitnessAndPropertyOptions(config, cmdLineOptions, configFile, properties);
 
     BootstrapOptions options = new BootstrapOptions();
     config.inject(options);
-
-    // Switch to appropriate config depending on property (if necessary)
-    config = handlePropertyOptions(config, options, cmdLineOptions, properties);
-
     if (options.printUsedOptions) {
       config.dumpUsedOptionsTo(System.out);
     }
@@ -377,6 +361,44 @@ public class CPAMain {
     return new Config(config, outputDirectory);
   }
 
+  /**
+   * Create the initial configuration from default values, config file, and command-line
+   * arguments.
+   */
+  static Configuration createInitialConfiguration(
+      Map<String, String> cmdLineOptions, Optional<String> configFile)
+      throws InvalidConfigurationException, IOException {
+    ConfigurationBuilder configBuilder = Configuration.builder();
+    configBuilder.setOptions(EXTERN_OPTION_DEFAULTS);
+    if (configFile.isPresent()) {
+      configBuilder.setOption(
+          APPROACH_NAME_OPTION, extractApproachNameFromConfigName(configFile.orElseThrow()));
+      configBuilder.loadFromFile(configFile.orElseThrow());
+    }
+    configBuilder.setOptions(cmdLineOptions);
+    return configBuilder.build();
+  }
+
+  /**
+   * Switch to the configuration that is appropriate for the witness to validate and the
+   * properties to check, if necessary.
+   */
+  static Configuration handleWitnessAndPropertyOptions(
+      Configuration config,
+      Map<String, String> cmdLineOptions,
+      Optional<String> configFile,
+      Set<Property> properties)
+      throws InvalidConfigurationException, IOException, InterruptedException {
+    // Read witness file if present, switch to appropriate config and adjust cmdline options
+    config = handleWitnessOptions(config, cmdLineOptions, configFile);
+
+    BootstrapOptions options = new BootstrapOptions();
+    config.inject(options);
+
+    // Switch to appropriate config depending on property (if necessary)
+    return handlePropertyOptions(config, options, cmdLineOptions, properties);
+  }
+
   private static String extractApproachNameFromConfigName(String configFilename) {
     String filename = Path.of(configFilename).getFileName().toString();
     // remove the extension (most likely ".properties")
@@ -561,7 +583,7 @@ public class CPAMain {
     return config;
   }
 
-  private static Set<Property> handlePropertyFile(Map<String, String> cmdLineOptions)
+  static Set<Property> handlePropertyFile(Map<String, String> cmdLineOptions)
       throws InvalidCmdlineArgumentException {
     List<String> specificationFiles =
         Splitter.on(',')
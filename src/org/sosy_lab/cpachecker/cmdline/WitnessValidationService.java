@@ -0,0 +1,321 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cmdline;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.sosy_lab.common.JSON;
+import org.sosy_lab.common.ShutdownManager;
+import org.sosy_lab.common.annotations.SuppressForbidden;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.ConfigurationBuilder;
+import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
+import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.common.configuration.converters.FileTypeConverter;
+import org.sosy_lab.common.log.BasicLogManager;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.common.log.LoggingOptions;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.CFACreator;
+import org.sosy_lab.cpachecker.cmdline.CPAMain.MainOptions;
+import org.sosy_lab.cpachecker.cmdline.CmdLineArguments.InvalidCmdlineArgumentException;
+import org.sosy_lab.cpachecker.core.CPAchecker;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult;
+import org.sosy_lab.cpachecker.core.specification.Property;
+import org.sosy_lab.cpachecker.exceptions.ParserException;
+import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon;
+import org.sosy_lab.cpachecker.util.resources.ResourceLimitChecker;
+
+/**
+ * Validates a stream of witnesses in one JVM.
+ *
+ * <p>The service is started with the same command-line arguments as {@link CPAMain} for witness
+ * validation, but without a program and a witness. It then reads one job per line from standard
+ * input, where each job consists of the program (or several comma-separated programs) and the
+ * witness to validate, separated by a tab. For each job, one line with a JSON object that contains
+ * the program, the witness, the verification result, and the wall time of the job is written to
+ * standard output. The service terminates at the end of the input or on an empty line.
+ *
+ * <p>Compared to starting CPAchecker for each witness, this avoids the startup of the JVM, and the
+ * CFA of a program is created only once as long as it stays in a cache and the CFA-related
+ * options of the job do not change. All jobs share the same output directory, so output files
+ * should be disabled (e.g., with "-noout") unless only the last job is of interest.
+ */
+public class WitnessValidationService {
+
+  private static final String PROGRAMS_OPTION = "analysis.programNames";
+  private static final String WITNESS_OPTION = "witness.validation.file";
+
+  /** Options that change between jobs but do not influence the CFA. */
+  private static final ImmutableList<String> JOB_SPECIFIC_OPTIONS =
+      ImmutableList.of(
+          PROGRAMS_OPTION,
+          WITNESS_OPTION,
+          "specification",
+          "invariantGeneration.kInduction.invariantsAutomatonFile");
+
+  private static final Splitter JOB_SPLITTER = Splitter.on('\t').trimResults();
+  private static final Splitter PROGRAM_SPLITTER =
+      Splitter.on(',').trimResults().omitEmptyStrings();
+
+  @Options(prefix = "witness.validation.service")
+  private static class ServiceOptions {
+    @Option(
+        secure = true,
+        description =
+            "Number of CFAs that are kept in memory by the witness-validation service "
+                + "for reuse by later jobs on the same program.")
+    @IntegerOption(min = 0)
+    private int cfaCacheSize = 8;
+  }
+
+  private final Map<String, String> cmdLineOptions;
+  private final Optional<String> configFile;
+  private final Set<Property> properties;
+  private final FileTypeConverter fileTypeConverter;
+  private final LogManager logger;
+  private final Map<List<String>, CFA> cfaCache;
+
+  private WitnessValidationService(
+      Map<String, String> pCmdLineOptions,
+      Optional<String> pConfigFile,
+      Set<Property> pProperties,
+      FileTypeConverter pFileTypeConverter,
+      LogManager pLogger,
+      int pCfaCacheSize) {
+    cmdLineOptions = pCmdLineOptions;
+    configFile = pConfigFile;
+    properties = pProperties;
+    fileTypeConverter = pFileTypeConverter;
+    logger = pLogger;
+    cfaCache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<List<String>, CFA> pEldest) {
+            return size() > pCfaCacheSize;
+          }
+        };
+  }
+
+  @SuppressWarnings("resource") // We don't close LogManager
+  @SuppressFBWarnings("DM_EXIT")
+  public static void main(String[] args) {
+    // CPAchecker uses American English for output,
+    // so make sure numbers are formatted appropriately.
+    Locale.setDefault(Locale.US);
+
+    WitnessValidationService service;
+    try {
+      Map<String, String> cmdLineOptions = CmdLineArguments.processArguments(args);
+      if (cmdLineOptions.containsKey(PROGRAMS_OPTION)
+          || cmdLineOptions.containsKey(WITNESS_OPTION)) {
+        throw Output.fatalError(
+            "Programs and witnesses need to be given as jobs on standard input, not as arguments.");
+      }
+
+      boolean secureMode = cmdLineOptions.remove(CmdLineArguments.SECURE_MODE_OPTION) != null;
+      if (secureMode) {
+        Configuration.enableSecureModeGlobally();
+      }
+      Set<Property> properties = CPAMain.handlePropertyFile(cmdLineOptions);
+      Optional<String> configFile =
+          Optional.ofNullable(cmdLineOptions.remove(CmdLineArguments.CONFIGURATION_FILE_OPTION));
+
+      Configuration config = CPAMain.createInitialConfiguration(cmdLineOptions, configFile);
+      FileTypeConverter fileTypeConverter =
+          secureMode
+              ? FileTypeConverter.createWithSafePathsOnly(config)
+              : FileTypeConverter.create(config);
+      Configuration.getDefaultConverters().put(FileOption.class, fileTypeConverter);
+      config =
+          Configuration.builder()
+              .copyFrom(config)
+              .addConverter(FileOption.class, fileTypeConverter)
+              .build();
+
+      ServiceOptions options = new ServiceOptions();
+      config.inject(options);
+      LogManager logger = BasicLogManager.create(new LoggingOptions(config));
+      config.enableLogging(logger);
+
+      service =
+          new WitnessValidationService(
+              cmdLineOptions,
+              configFile,
+              properties,
+              fileTypeConverter,
+              logger,
+              options.cfaCacheSize);
+    } catch (InvalidCmdlineArgumentException e) {
+      throw Output.fatalError("Could not process command line arguments: %s", e.getMessage());
+    } catch (IOException e) {
+      throw Output.fatalError("Could not read config file %s", e.getMessage());
+    } catch (InvalidConfigurationException e) {
+      throw Output.fatalError("Invalid configuration: %s", e.getMessage());
+    }
+
+    try {
+      service.processJobs();
+    } catch (IOException e) {
+      throw Output.fatalError("Could not read jobs: %s", e.getMessage());
+    }
+    System.exit(0); // terminate remaining non-daemon threads of the analyses
+  }
+
+  @SuppressFBWarnings(
+      value = "DM_DEFAULT_ENCODING",
+      justification = "Default encoding is the correct one for stdin and stdout.")
+  @SuppressForbidden("System.out is correct here")
+  private void processJobs() throws IOException {
+    BufferedReader in =
+        new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()));
+    PrintStream out = System.out;
+
+    String line;
+    while ((line = in.readLine()) != null && !line.isBlank()) {
+      List<String> parts = JOB_SPLITTER.splitToList(line);
+      Map<String, Object> result;
+      if (parts.size() != 2 || parts.get(0).isEmpty() || parts.get(1).isEmpty()) {
+        result =
+            ImmutableMap.of(
+                "job", line, "result", "ERROR", "message", "Expected program and witness");
+      } else {
+        result = validate(parts.get(0), parts.get(1));
+      }
+      JSON.writeJSONString(result, out);
+      out.println();
+      out.flush();
+    }
+  }
+
+  private Map<String, Object> validate(String pPrograms, String pWitness) {
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    List<String> programs = PROGRAM_SPLITTER.splitToList(pPrograms);
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("program", pPrograms);
+    result.put("witness", pWitness);
+
+    ResourceLimitChecker limits = null;
+    List<String> cacheKey = null;
+    try {
+      Map<String, String> jobOptions = new HashMap<>(cmdLineOptions);
+      jobOptions.put(PROGRAMS_OPTION, pPrograms);
+      jobOptions.put(WITNESS_OPTION, pWitness);
+      Configuration config =
+          Configuration.builder()
+              .copyFrom(CPAMain.createInitialConfiguration(jobOptions, configFile))
+              .addConverter(FileOption.class, fileTypeConverter)
+              .build();
+      config =
+          CPAMain.handleWitnessAndPropertyOptions(config, jobOptions, configFile, properties);
+      MainOptions mainOptions = new MainOptions();
+      config.inject(mainOptions);
+      config = CPAMain.detectFrontendLanguageIfNecessary(mainOptions, config, logger);
+
+      ShutdownManager shutdownManager = ShutdownManager.create();
+      limits = ResourceLimitChecker.fromConfiguration(config, logger, shutdownManager);
+      limits.start();
+
+      cacheKey = getCacheKey(programs, config);
+      CFA cfa = cfaCache.get(cacheKey);
+      result.put("cfaReused", cfa != null);
+      if (cfa == null) {
+        CFACreator cfaCreator = new CFACreator(config, logger, shutdownManager.getNotifier());
+        cfa = cfaCreator.parseFileAndCreateCFA(programs);
+        cfaCache.put(cacheKey, cfa);
+      }
+
+      CPAcheckerResult cpaResult =
+          new CPAchecker(config, logger, shutdownManager).run(programs, cfa);
+      result.put("result", cpaResult.getResult().name());
+      if (!cpaResult.getTargetDescription().isEmpty()) {
+        result.put("violatedProperty", cpaResult.getTargetDescription());
+      }
+      // finishes output of the job, e.g., closes files that were written during the analysis
+      cpaResult.writeOutputFiles();
+
+    } catch (InvalidConfigurationException e) {
+      logger.logUserException(Level.SEVERE, e, "Invalid configuration");
+      putError(result, e);
+    } catch (IOException e) {
+      logger.logUserException(Level.SEVERE, e, "Could not read file");
+      putError(result, e);
+    } catch (ParserException e) {
+      logger.logUserException(Level.SEVERE, e, "Parsing failed");
+      putError(result, e);
+    } catch (InterruptedException e) {
+      logger.logUserException(Level.WARNING, e, "Validation interrupted");
+      result.put("result", "UNKNOWN");
+    } catch (RuntimeException | AssertionError e) {
+      // a bug in one analysis must not stop the remaining jobs
+      logger.logException(Level.SEVERE, e, "Validation failed with an unexpected error");
+      putError(result, e);
+      if (cacheKey != null) {
+        // the CFA might be in an inconsistent state
+        cfaCache.remove(cacheKey);
+      }
+
+    } finally {
+      if (limits != null) {
+        limits.cancel();
+      }
+      Thread.interrupted(); // clear interrupted flag before the next job
+    }
+
+    result.put("time", stopwatch.elapsed(TimeUnit.MILLISECONDS) / 1000.0);
+    return result;
+  }
+
+  private static void putError(Map<String, Object> pResult, Throwable pError) {
+    pResult.put("result", "ERROR");
+    pResult.put("message", String.valueOf(pError.getMessage()));
+  }
+
+  /**
+   * The CFA of a job can be reused if the contents of the programs are the same and the
+   * configuration only differs in options that are specific to the job.
+   */
+  private static List<String> getCacheKey(List<String> pPrograms, Configuration pConfig)
+      throws IOException, InvalidConfigurationException {
+    ImmutableList.Builder<String> key = ImmutableList.builder();
+    for (String program : pPrograms) {
+      key.add(program, AutomatonGraphmlCommon.computeHash(Path.of(program)));
+    }
+    ConfigurationBuilder builder = Configuration.builder().copyFrom(pConfig);
+    JOB_SPECIFIC_OPTIONS.forEach(builder::clearOption);
+    String configuration = builder.build().asPropertiesString();
+    key.add(Hashing.sha256().hashString(configuration, StandardCharsets.UTF_8).toString());
+    return key.build();
+  }
+}
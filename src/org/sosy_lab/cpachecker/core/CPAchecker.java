@@ -300,6 +300,16 @@ public class CPAchecker {
   }
 
   public CPAcheckerResult run(List<String> programDenotation) {
+    return run(programDenotation, null);
+  }
+
+  /**
+   * Run the analysis on the given program. If a CFA is given, it is used instead of parsing the
+   * program again. This allows to analyze the same program several times in one JVM, e.g., with
+   * different specifications. The given CFA needs to be created from the given program with the
+   * same CFA-related options as the configuration of this instance.
+   */
+  public CPAcheckerResult run(List<String> programDenotation, @Nullable CFA pCfa) {
     checkArgument(!programDenotation.isEmpty());
 
     logger.logf(Level.INFO, "%s (%s) started", getVersion(config), getJavaInformation());
@@ -321,7 +331,14 @@ public class CPAchecker {
       // create reached set, cpa, algorithm
       stats.creationTime.start();
 
-      cfa = parse(programDenotation, stats);
+      if (pCfa == null) {
+        cfa = parse(programDenotation, stats);
+      } else {
+        logger.logf(
+            Level.INFO, "Reusing CFA of file(s) \"%s\"", Joiner.on(", ").join(programDenotation));
+        cfa = pCfa;
+        stats.setCFA(cfa);
+      }
       GlobalInfo.getInstance().storeCFA(cfa);
       shutdownNotifier.shutdownIfNecessary();
 
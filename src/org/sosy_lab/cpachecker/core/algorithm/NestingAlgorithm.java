@@ -38,6 +38,7 @@ import org.sosy_lab.cpachecker.core.interfaces.StatisticsProvider;
 import org.sosy_lab.cpachecker.core.reachedset.AggregatedReachedSets;
 import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
 import org.sosy_lab.cpachecker.core.specification.Specification;
+import org.sosy_lab.cpachecker.cpa.arg.ARGStatistics;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.util.Triple;
 import org.sosy_lab.cpachecker.util.globalinfo.GlobalInfo;
@@ -105,6 +106,7 @@ public abstract class NestingAlgorithm implements Algorithm, StatisticsProvider
     for (String ignore : ignoreOptions) {
       singleConfigBuilder.clearOption(ignore);
     }
+    ARGStatistics.clearComponentOnlyOptions(singleConfigBuilder);
 
     // TODO next line overrides existing options with options loaded from file.
     // Perhaps we want to keep some global options like 'specification'?
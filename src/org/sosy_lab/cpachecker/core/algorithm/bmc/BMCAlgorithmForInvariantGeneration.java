@@ -11,6 +11,7 @@ package org.sosy_lab.cpachecker.core.algorithm.bmc;
 import com.google.common.base.Verify;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.sosy_lab.common.ShutdownManager;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
@@ -21,6 +22,7 @@ import org.sosy_lab.cpachecker.core.algorithm.Algorithm;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.CandidateInvariant;
 import org.sosy_lab.cpachecker.core.algorithm.bmc.candidateinvariants.ExpressionTreeCandidateInvariant;
 import org.sosy_lab.cpachecker.core.algorithm.invariants.ExpressionTreeSupplier;
+import org.sosy_lab.cpachecker.core.algorithm.invariants.InvariantGenerator;
 import org.sosy_lab.cpachecker.core.algorithm.invariants.InvariantSupplier;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
 import org.sosy_lab.cpachecker.core.reachedset.AggregatedReachedSets;
@@ -47,6 +49,9 @@ public class BMCAlgorithmForInvariantGeneration extends AbstractBMCAlgorithm {
   private ExpressionTreeSupplier locationInvariantExpressionTreeProvider =
       ExpressionTreeSupplier.TrivialInvariantSupplier.INSTANCE;
 
+  // increased whenever the suppliers above are replaced
+  private final AtomicLong supplierVersion = new AtomicLong();
+
   public BMCAlgorithmForInvariantGeneration(
       Algorithm pAlgorithm,
       ConfigurableProgramAnalysis pCPA,
@@ -88,6 +93,19 @@ public class BMCAlgorithmForInvariantGeneration extends AbstractBMCAlgorithm {
     return invariantGenerator.isProgramSafe();
   }
 
+  /**
+   * Returns a version of the invariants that {@link #getCurrentInvariants()} takes from the
+   * induction prover, see {@link InvariantGenerator#getInvariantVersion()}. It does not cover the
+   * confirmed candidates, which are tracked by the caller.
+   */
+  public long getInvariantVersion() {
+    long version = invariantGenerator.getInvariantVersion();
+    if (version == InvariantGenerator.UNKNOWN_INVARIANT_VERSION) {
+      return InvariantGenerator.UNKNOWN_INVARIANT_VERSION;
+    }
+    return version + supplierVersion.get();
+  }
+
   @Override
   protected CandidateGenerator getCandidateInvariants() {
     return candidateGenerator;
@@ -150,6 +168,7 @@ public class BMCAlgorithmForInvariantGeneration extends AbstractBMCAlgorithm {
               }
             }
           };
+      supplierVersion.incrementAndGet();
     }
 
     return prover;
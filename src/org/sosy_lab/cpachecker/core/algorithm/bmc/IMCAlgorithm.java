@@ -389,6 +389,13 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   @Option(secure = true, description = "toggle Impact-like covering for the ISMC fixed-point check")
   private boolean impactLikeCovering = false;
 
+  @Option(
+      secure = true,
+      description =
+          "toggle reusing the interpolants of the previous unrolling as initial over-approximation"
+              + " for the IMC fixed-point computation, if they are still safe")
+  private boolean reuseInterpolants = false;
+
   private final ConfigurableProgramAnalysis cpa;
 
   private final Algorithm algorithm;
@@ -402,6 +409,13 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
   private final CFA cfa;
 
   private BooleanFormula finalFixedPoint;
+
+  /**
+   * The disjunction of those interpolants of the last IMC fixed-point computation that were proven
+   * safe for its unrolling, without SSA indices. It is used to seed the computation at the next
+   * unrolling if {@link #reuseInterpolants} is enabled.
+   */
+  private BooleanFormula reusableImage;
   private LoopBoundManager loopBoundMgr;
 
   public IMCAlgorithm(
@@ -445,6 +459,7 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
             pfmgr, solver, Optional.empty(), Optional.empty(), pConfig, shutdownNotifier, logger);
 
     finalFixedPoint = bfmgr.makeFalse();
+    reusableImage = bfmgr.makeFalse();
     loopBoundMgr = new LoopBoundManager(pConfig);
 
     if (assertTargetsAtEveryIteration
@@ -662,8 +677,28 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
         bfmgr.and(
             bfmgr.and(loops.subList(1, formulas.getNumLoops())), formulas.getAssertionFormula());
 
-    Optional<ImmutableList<BooleanFormula>> interpolants =
-        itpMgr.interpolate(ImmutableList.of(currentImage, loops.get(0), suffixFormula));
+    // The part of the over-approximation that is known to be safe for the current unrolling
+    BooleanFormula safeImage = bfmgr.makeFalse();
+    Optional<ImmutableList<BooleanFormula>> interpolants = Optional.empty();
+    if (reuseInterpolants && !bfmgr.isFalse(reusableImage)) {
+      // Start from the interpolants of the previous unrolling. This costs a single query that is
+      // needed anyway, and if they are still safe, it saves recomputing them one by one.
+      BooleanFormula seededImage =
+          bfmgr.or(currentImage, fmgr.instantiate(reusableImage, formulas.getPrefixSsaMap()));
+      interpolants =
+          itpMgr.interpolate(ImmutableList.of(seededImage, loops.get(0), suffixFormula));
+      if (interpolants.isPresent()) {
+        logger.log(Level.FINE, "Reusing interpolants of the previous unrolling");
+        currentImage = seededImage;
+        safeImage = reusableImage;
+      } else {
+        logger.log(Level.FINE, "Interpolants of the previous unrolling are unsafe, dropping them");
+      }
+    }
+    if (!interpolants.isPresent()) {
+      interpolants =
+          itpMgr.interpolate(ImmutableList.of(currentImage, loops.get(0), suffixFormula));
+    }
     assert interpolants.isPresent();
     final int initialIMCIter = stats.numOfIMCInnerIterations;
     while (interpolants.isPresent()) {
@@ -688,7 +723,11 @@ public class IMCAlgorithm extends AbstractBMCAlgorithm implements Algorithm {
       }
       currentImage = bfmgr.or(currentImage, interpolant);
       interpolants = itpMgr.interpolate(ImmutableList.of(interpolant, loops.get(0), suffixFormula));
+      if (interpolants.isPresent()) {
+        safeImage = bfmgr.or(safeImage, fmgr.uninstantiate(interpolant));
+      }
     }
+    reusableImage = safeImage;
     logger.log(
         Level.FINE,
         "Attempted to compute fixed point with",
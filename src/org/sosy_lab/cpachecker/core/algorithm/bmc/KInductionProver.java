@@ -41,6 +41,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.stream.Stream;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentMap;
@@ -138,6 +139,15 @@ class KInductionProver implements AutoCloseable {
 
   private boolean invariantGenerationRunning = true;
 
+  // The assertion of the loop-head invariants used in the last induction check. It is reused by
+  // subsequent checks as long as neither the unrolled reached set grew nor the invariant generator
+  // published new invariants in the meantime.
+  private @Nullable BooleanFormula loopHeadInvariantAssertion = null;
+
+  private int loopHeadInvariantAssertionReachedSize = -1;
+
+  private long loopHeadInvariantAssertionVersion = InvariantGenerator.UNKNOWN_INVARIANT_VERSION;
+
   /** Creates an instance of the KInductionProver. */
   public KInductionProver(
       CFA pCFA,
@@ -421,7 +431,7 @@ class KInductionProver implements AutoCloseable {
     FluentIterable<AbstractState> loopHeadStates =
         AbstractStates.filterLocations(reached, loopHeads);
 
-    BooleanFormula loopHeadInv = inductiveLoopHeadInvariantAssertion(loopHeadStates);
+    BooleanFormula loopHeadInv = getLoopHeadInvariantAssertion(reached, loopHeadStates);
     previousK = pK + 1;
     stats.inductionPreparation.stop();
 
@@ -478,7 +488,7 @@ class KInductionProver implements AutoCloseable {
         // Re-attempt the proof immediately before returning to the caller
         // if new invariants are available
         BooleanFormula oldLoopHeadInv = loopHeadInv;
-        loopHeadInv = inductiveLoopHeadInvariantAssertion(loopHeadStates);
+        loopHeadInv = getLoopHeadInvariantAssertion(reached, loopHeadStates);
         boolean loopHeadInvChanged = !loopHeadInv.equals(oldLoopHeadInv);
 
         // We need to produce the model if we are in the last iteration
@@ -637,6 +647,32 @@ class KInductionProver implements AutoCloseable {
     return bfmgr.and(assertions);
   }
 
+  /**
+   * Gets the assertion of the currently known loop-head invariants at the given loop-head states of
+   * the given reached set. The assertion is only rebuilt if the reached set changed or the
+   * invariant generator published new invariants since it was last built, so this is cheap enough
+   * to be called whenever a check fails, which allows us to pick up invariants from a generator
+   * running in the background as soon as they are available.
+   */
+  private BooleanFormula getLoopHeadInvariantAssertion(
+      ReachedSet pReached, Iterable<AbstractState> pLoopHeadStates)
+      throws CPATransferException, InterruptedException {
+    // retrieve the version before the invariants, such that we do not miss any update
+    long version = invariantGenerator.getInvariantVersion();
+    boolean invariantsChanged =
+        invariantGenerationRunning
+            && (version == InvariantGenerator.UNKNOWN_INVARIANT_VERSION
+                || version != loopHeadInvariantAssertionVersion);
+    if (loopHeadInvariantAssertion == null
+        || loopHeadInvariantAssertionReachedSize != pReached.size()
+        || invariantsChanged) {
+      loopHeadInvariantAssertion = inductiveLoopHeadInvariantAssertion(pLoopHeadStates);
+      loopHeadInvariantAssertionReachedSize = pReached.size();
+      loopHeadInvariantAssertionVersion = version;
+    }
+    return loopHeadInvariantAssertion;
+  }
+
   private BooleanFormula inductiveLoopHeadInvariantAssertion(
       Iterable<AbstractState> pLoopHeadStates) throws CPATransferException, InterruptedException {
     Iterable<AbstractState> loopHeadStates = filterInductiveAssertionIteration(pLoopHeadStates);
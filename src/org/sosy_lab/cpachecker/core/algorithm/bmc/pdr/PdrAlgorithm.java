@@ -315,21 +315,13 @@ public class PdrAlgorithm implements Algorithm {
                 Sets.union(
                     frameInvariants,
                     Collections.singleton(getCurrentInvariant(pTransitionRelation)));
-            List<CandidateInvariant> toPush = new ArrayList<>();
-            for (CandidateInvariant frameClause : frameSet.getPushableFrameClauses(i)) {
-              InductionResult<CandidateInvariant> pushAttempt =
-                  checkInduction(
-                      frameProver,
-                      frameInvariants,
-                      pTransitionRelation,
-                      frameClause,
-                      InvariantStrengthenings.noStrengthening(),
-                      StandardLiftings.NO_LIFTING);
-              if (pushAttempt.isSuccessful()) {
-                toPush.add(frameClause);
-                propagated = true;
-              }
-            }
+            List<CandidateInvariant> toPush =
+                getPushableClauses(
+                    frameProver,
+                    frameInvariants,
+                    pTransitionRelation,
+                    ImmutableList.copyOf(frameSet.getPushableFrameClauses(i)));
+            propagated |= !toPush.isEmpty();
 
             for (CandidateInvariant pushableClause : toPush) {
               frameSet.pushFrameClause(i, pushableClause);
@@ -918,6 +910,54 @@ public class PdrAlgorithm implements Algorithm {
         Collections.singleton(blockedAbstractCti), violatedPartialTransition.getDesiredK());
   }
 
+  /**
+   * Determines which of the given clauses of a frame are inductive relative to the frame, i.e.,
+   * which of them can be pushed to the next frame.
+   *
+   * <p>The result is the same as calling {@link #checkInduction} for each clause without
+   * strengthening and lifting, but the transition and the frame assertions are pushed onto the
+   * solver stack only once for all clauses, so that the solver can reuse what it learned about
+   * them, and no counterexamples to induction are extracted for clauses that cannot be pushed.
+   */
+  private List<CandidateInvariant> getPushableClauses(
+      ProverEnvironmentWithFallback pProver,
+      Set<CandidateInvariant> pFrameInvariants,
+      TotalTransitionRelation pTransitionRelation,
+      Iterable<CandidateInvariant> pClauses)
+      throws SolverException, InterruptedException, CPATransferException {
+
+    assert pProver.isEmpty();
+
+    List<CandidateInvariant> pushableClauses = new ArrayList<>();
+    pProver.push(pTransitionRelation.getTransitionFormula());
+    pProver.push(pTransitionRelation.getPredecessorAssertions(pFrameInvariants));
+    try {
+      for (CandidateInvariant clause : pClauses) {
+        shutdownNotifier.shutdownIfNecessary();
+        BooleanFormula successorViolation =
+            BMCHelper.disjoinStateViolationAssertions(
+                bfmgr, pTransitionRelation.getSuccessorViolationAssertions(clause));
+        pProver.push(pTransitionRelation.getPredecessorAssertion(clause));
+        pProver.push(successorViolation);
+        try {
+          if (pProver.isUnsat()) {
+            pushableClauses.add(clause);
+          }
+        } finally {
+          pProver.pop(); // Pop the successor violation
+          pProver.pop(); // Pop the candidate predecessor assertion
+        }
+      }
+    } finally {
+      pProver.pop(); // Pop the predecessor assertions
+      pProver.pop(); // Pop the transition
+    }
+
+    assert pProver.isEmpty();
+
+    return pushableClauses;
+  }
+
   private Optional<AlgorithmStatus> handleConfirmedCandidates(
       CandidateGenerator pCandidateGenerator, FrameSet pFrameSet, ReachedSet pReachedSet) {
     Iterator<CandidateInvariant> rootInvariantIterator = pCandidateGenerator.iterator();
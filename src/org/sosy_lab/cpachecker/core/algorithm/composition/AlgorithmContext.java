@@ -8,6 +8,8 @@
 
 package org.sosy_lab.cpachecker.core.algorithm.composition;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
@@ -29,7 +31,9 @@ import org.sosy_lab.common.time.Timer;
 import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
 import org.sosy_lab.cpachecker.core.algorithm.TestCaseGeneratorAlgorithm;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
 import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
+import org.sosy_lab.cpachecker.cpa.arg.ARGStatistics;
 import org.sosy_lab.cpachecker.cpa.testtargets.TestTargetCPA;
 import org.sosy_lab.cpachecker.cpa.testtargets.TestTargetTransferRelation;
 import org.sosy_lab.cpachecker.util.CPAs;
@@ -57,6 +61,7 @@ public class AlgorithmContext {
   private @Nullable ConfigurableProgramAnalysis cpa;
   private @Nullable Configuration config;
   private ReachedSet reached;
+  private @Nullable ImmutableList<Precision> evictedPrecisions;
   private Set<CFAEdge> progressedEdges;
   private @Nullable Set<CFAEdge> testTargets;
   private double progress = -1.0;
@@ -178,6 +183,7 @@ public class AlgorithmContext {
     singleConfigBuilder.copyFrom(pGlobalConfig);
     singleConfigBuilder.clearOption("compositionAlgorithm.configFiles");
     singleConfigBuilder.clearOption("analysis.useCompositionAnalysis");
+    ARGStatistics.clearComponentOnlyOptions(singleConfigBuilder);
 
     try { // read config file
       singleConfigBuilder.loadFromFile(configFile);
@@ -207,6 +213,39 @@ public class AlgorithmContext {
 
   public void setReachedSet(final ReachedSet pReached) {
     reached = pReached;
+    evictedPrecisions = null;
+  }
+
+  /**
+   * Drops the reached set of this context to free memory while the context is idle. Only the
+   * (distinct) precisions of the reached set are kept, such that the next run of this context can
+   * start from a new reached set with the precision learned so far.
+   *
+   * @return whether a reached set was dropped
+   */
+  public boolean evictReachedSet() {
+    if (reached == null) {
+      return false;
+    }
+    evictedPrecisions = ImmutableSet.copyOf(reached.getPrecisions()).asList();
+    reached = null;
+    return true;
+  }
+
+  /** Whether the reached set of this context was dropped by {@link #evictReachedSet()}. */
+  public boolean wasEvicted() {
+    return evictedPrecisions != null;
+  }
+
+  /**
+   * Returns the precisions of the last run of this context, either from its reached set or those
+   * kept when the reached set was evicted, or null if this context was not run yet.
+   */
+  public @Nullable Iterable<Precision> getPrecisions() {
+    if (reached != null) {
+      return reached.getPrecisions();
+    }
+    return evictedPrecisions;
   }
 
   public Set<CFAEdge> getProgressedEdges() {
@@ -0,0 +1,51 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.composition;
+
+import java.util.Collection;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.InvalidConfigurationException;
+import org.sosy_lab.common.configuration.Option;
+import org.sosy_lab.common.configuration.Options;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.algorithm.composition.control.BanditController;
+import org.sosy_lab.cpachecker.core.algorithm.composition.control.ICompositionController;
+
+/**
+ * Dynamic composition whose decisions are made in-process by a {@link BanditController}, i.e.,
+ * without the round trips to an external controller of {@link RemoteCompositionStrategy}.
+ */
+@Options(prefix = "compositionAlgorithm.bandit")
+public class BanditCompositionStrategy extends ADynamicCompositionStrategy {
+
+  @Option(
+      secure = true,
+      description =
+          "Weight of the exploration term of the UCB1 rule that selects the next analysis and"
+              + " its time limit. Larger values try rarely used combinations more often.")
+  private double exploration = Math.sqrt(2);
+
+  public BanditCompositionStrategy(Configuration pConfig, LogManager pLogger)
+      throws InvalidConfigurationException {
+    super(pConfig, pLogger);
+    pConfig.inject(this);
+  }
+
+  @Override
+  protected ICompositionController createController(
+      Collection<String> controlActions, Collection<Integer> timeDistribution) {
+    return new BanditController(controlActions, timeDistribution, exploration);
+  }
+
+  @Override
+  public @Nullable String getName() {
+    return "Bandit Composition";
+  }
+}
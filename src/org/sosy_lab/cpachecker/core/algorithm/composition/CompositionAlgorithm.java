@@ -24,6 +24,10 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -98,6 +102,7 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
     private final Timer totalTimer;
     private final Collection<Statistics> currentSubStat;
     private int noOfRuns = 0;
+    private int noOfEvictions = 0;
 
     public CompositionAlgorithmStatistics() {
       totalTimer = new Timer();
@@ -126,6 +131,9 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
       pOut.println("Number of algorithms provided:    " + configFiles.size());
       pOut.println("Number of composite analysis runs:        " + noOfRuns);
       pOut.println("Total time: " + totalTimer);
+      if (evictionThreshold > 0) {
+        pOut.println("Number of evicted reached sets:           " + noOfEvictions);
+      }
 
       printSubStatistics(pOut, pResult, pReached);
     }
@@ -213,6 +221,18 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
   @FileOption(FileOption.Type.OUTPUT_FILE)
   private Path initialCondition = Path.of("AssumptionAutomaton.txt");
 
+  @Option(
+      secure = true,
+      name = "evictionThreshold",
+      description =
+          "fraction of the maximal heap size (between 0 and 1) above which the reached sets of all"
+              + " analyses that are currently not running are dropped after each run. The heap"
+              + " that was still in use after the last garbage collection is compared against this"
+              + " fraction. An analysis"
+              + " whose reached set was dropped is restarted with the precision it had learned"
+              + " so far. The value 0 disables the eviction.")
+  private double evictionThreshold = 0;
+
   private AlgorithmCompositionStrategy selectionStrategy; // TODO initialize, set up
 
   private final CFA cfa;
@@ -236,6 +256,10 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
       throw new InvalidConfigurationException(
           "Need at least one configuration for composition algorithm!");
     }
+    if (evictionThreshold < 0 || evictionThreshold > 1) {
+      throw new InvalidConfigurationException(
+          "Option compositionAlgorithm.evictionThreshold must be between 0 and 1.");
+    }
     cfa = pCfa;
     globalConfig = pConfig;
     logger = pLogger;
@@ -442,6 +466,10 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
               }
 
               CPAs.closeIfPossible(currentRun.getFirst(), logger);
+              if (!(fReached instanceof HistoryForwardingReachedSet)) {
+                // the history keeps all reached sets alive, eviction would not free anything
+                evictIdleContextsIfNecessary(currentContext);
+              }
             }
           }
 
@@ -497,6 +525,61 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
     stats.resetSubStatistics();
   }
 
+  /**
+   * Drops the reached sets of all contexts except the given one if the live heap exceeds the
+   * configured fraction of the maximal heap. The abstract states themselves cannot be written to
+   * disk (they reference CPA and solver objects), so the evicted contexts only keep their
+   * precisions and rebuild their reached set on their next run.
+   */
+  private void evictIdleContextsIfNecessary(final AlgorithmContext pCurrentContext) {
+    if (evictionThreshold <= 0) {
+      return;
+    }
+    long usedHeap = getLiveHeap();
+    if (usedHeap <= evictionThreshold * Runtime.getRuntime().maxMemory()) {
+      return;
+    }
+
+    int evicted = 0;
+    for (AlgorithmContext context : selectionStrategy.algorithmContexts) {
+      if (context != pCurrentContext && context.evictReachedSet()) {
+        evicted++;
+      }
+    }
+    if (evicted > 0) {
+      stats.noOfEvictions += evicted;
+      logger.logf(
+          Level.INFO,
+          "Live heap of %d MB exceeds threshold, dropped reached sets of %d idle analyses.",
+          usedHeap >> 20,
+          evicted);
+    }
+  }
+
+  /**
+   * Returns the size of the heap that was still in use after the last garbage collection. The
+   * currently used heap also contains garbage that was not yet collected and would trigger the
+   * eviction long before the memory actually runs out.
+   */
+  private static long getLiveHeap() {
+    long liveHeap = 0;
+    boolean supported = false;
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        MemoryUsage usage = pool.getCollectionUsage();
+        if (usage != null) {
+          liveHeap += usage.getUsed();
+          supported = true;
+        }
+      }
+    }
+    if (!supported) {
+      Runtime runtime = Runtime.getRuntime();
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+    return liveHeap;
+  }
+
   private void tidyUpShutdownManager(ShutdownManager pShutdownManager) {
     pShutdownManager.getNotifier().unregister(logShutdownListener);
     pShutdownManager.requestShutdown("Analysis terminated.");
@@ -564,15 +647,15 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
 
       if (pCurrentContext.reusePrecision()) {
         // start with new reached set each time, but precision from previous analysis if possible
-        List<ReachedSet> previousResults = new ArrayList<>(2);
+        List<@Nullable Iterable<Precision>> previousResults = new ArrayList<>(2);
         FormulaManagerView fmgr = null;
 
         if (pCurrentContext.reuseOwnPrecision()) {
-          previousResults.add(pCurrentContext.getReachedSet());
+          previousResults.add(pCurrentContext.getPrecisions());
         }
 
         if (pCurrentContext.reusePredecessorPrecision() && pPreviousContext != null) {
-          previousResults.add(pPreviousContext.getReachedSet());
+          previousResults.add(pPreviousContext.getPrecisions());
           PredicateCPA predCPA = CPAs.retrieveCPA(pPreviousContext.getCPA(), PredicateCPA.class);
           if (predCPA != null) {
             fmgr = predCPA.getSolver().getFormulaManager();
@@ -587,17 +670,20 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
                 previousResults,
                 fmgr,
                 pCurrentContext.getConfig()));
-      } else {
-        if (newReachedSet) {
-          pCurrentContext.setReachedSet(
-              createInitialReachedSet(
-                  cpa,
-                  pMainFunction,
-                  localCoreComponents,
-                  null,
-                  null,
-                  pCurrentContext.getConfig()));
-        }
+      } else if (newReachedSet) {
+        pCurrentContext.setReachedSet(
+            createInitialReachedSet(
+                cpa, pMainFunction, localCoreComponents, null, null, pCurrentContext.getConfig()));
+      } else if (pCurrentContext.wasEvicted()) {
+        // cannot continue the evicted reached set, restart with the precision learned so far
+        pCurrentContext.setReachedSet(
+            createInitialReachedSet(
+                cpa,
+                pMainFunction,
+                localCoreComponents,
+                ImmutableList.of(checkNotNull(pCurrentContext.getPrecisions())),
+                null,
+                pCurrentContext.getConfig()));
       }
 
       GlobalInfo.getInstance().setUpInfoFromCPA(cpa);
@@ -642,7 +728,7 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
       final ConfigurableProgramAnalysis pCpa,
       final CFANode pMainFunction,
       final CoreComponentsFactory pFactory,
-      final @Nullable List<ReachedSet> previousReachedSets,
+      final @Nullable List<@Nullable Iterable<Precision>> pPreviousPrecisions,
       final @Nullable FormulaManagerView pFMgr,
       final Configuration pConfig)
       throws InterruptedException {
@@ -653,9 +739,9 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
 
     Precision initialPrecision =
         pCpa.getInitialPrecision(pMainFunction, StateSpacePartition.getDefaultPartition());
-    if (previousReachedSets != null && !previousReachedSets.isEmpty()) {
+    if (pPreviousPrecisions != null && !pPreviousPrecisions.isEmpty()) {
       initialPrecision =
-          aggregatePrecisionsForReuse(previousReachedSets, initialPrecision, pFMgr, pConfig);
+          aggregatePrecisionsForReuse(pPreviousPrecisions, initialPrecision, pFMgr, pConfig);
     }
 
     ReachedSet reached = pFactory.createReachedSet(pCpa);
@@ -664,11 +750,11 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
   }
 
   private Precision aggregatePrecisionsForReuse(
-      final List<ReachedSet> pPreviousReachedSets,
+      final List<@Nullable Iterable<Precision>> pPreviousPrecisions,
       final Precision pInitialPrecision,
       final @Nullable FormulaManagerView pFMgr,
       final Configuration pConfig) {
-    Preconditions.checkArgument(!pPreviousReachedSets.isEmpty());
+    Preconditions.checkArgument(!pPreviousPrecisions.isEmpty());
     Precision resultPrec = pInitialPrecision;
 
     VariableTrackingPrecision varPrec =
@@ -682,9 +768,9 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
 
         boolean changed = false;
 
-        for (ReachedSet previousReached : pPreviousReachedSets) {
-          if (previousReached != null) {
-            for (Precision prec : previousReached.getPrecisions()) {
+        for (Iterable<Precision> previousPrecisions : pPreviousPrecisions) {
+          if (previousPrecisions != null) {
+            for (Precision prec : previousPrecisions) {
               varPrecInter =
                   Precisions.extractPrecisionByType(prec, VariableTrackingPrecision.class);
               if (varPrecInter != null && !(varPrecInter instanceof ConfigurablePrecision)) {
@@ -723,9 +809,9 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
         ConstraintsPrecision constrPrecInter;
         boolean changed = false;
 
-        for (ReachedSet previousReached : pPreviousReachedSets) {
-          if (previousReached != null) {
-            for (Precision prec : previousReached.getPrecisions()) {
+        for (Iterable<Precision> previousPrecisions : pPreviousPrecisions) {
+          if (previousPrecisions != null) {
+            for (Precision prec : previousPrecisions) {
               constrPrecInter = Precisions.extractPrecisionByType(prec, ConstraintsPrecision.class);
               if (constrPrecInter != null
                   && !(constrPrecInter instanceof FullConstraintsPrecision)) {
@@ -747,7 +833,7 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
 
     LoopBoundPrecision loopPrec =
         Precisions.extractPrecisionByType(resultPrec, LoopBoundPrecision.class);
-    if (loopPrec != null && pPreviousReachedSets.get(0) != null) {
+    if (loopPrec != null && pPreviousPrecisions.get(0) != null) {
       resultPrec =
           Precisions.replaceByType(
               resultPrec, loopPrec, Predicates.instanceOf(LoopBoundPrecision.class));
@@ -756,9 +842,9 @@ public class CompositionAlgorithm implements Algorithm, StatisticsProvider {
     PredicatePrecision predPrec =
         Precisions.extractPrecisionByType(resultPrec, PredicatePrecision.class);
 
-    if (predPrec != null && pPreviousReachedSets.get(0) != null) {
+    if (predPrec != null && pPreviousPrecisions.get(0) != null) {
       Iterable<Precision> allPrecisions =
-          from(ImmutableList.of(resultPrec)).append(pPreviousReachedSets.get(0).getPrecisions());
+          from(ImmutableList.of(resultPrec)).append(pPreviousPrecisions.get(0));
 
       resultPrec =
           Precisions.replaceByType(
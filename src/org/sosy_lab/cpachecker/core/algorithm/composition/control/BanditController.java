@@ -0,0 +1,98 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.algorithm.composition.control;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+
+/**
+ * Controller that decides in-process which analysis runs next, without asking a remote controller.
+ *
+ * <p>Each combination of analysis and time limit is an arm of a multi-armed bandit. The reward of
+ * an arm is the progress its analysis reported per second of its time limit. Arms are chosen by
+ * the UCB1 rule on rewards that are normalized by the best rate seen so far. Arms that were never
+ * tried are tried first, shortest time limits first, such that the initial exploration is cheap.
+ */
+public class BanditController implements ICompositionController {
+
+  private final List<String> identifiers;
+  private final List<Integer> timeLimits;
+  private final double exploration;
+
+  private final int[] pulls;
+  private final double[] rewardSums;
+  private int totalPulls = 0;
+  private double maxRate = 0.0;
+
+  private int lastArm = -1;
+
+  public BanditController(
+      Collection<String> pIdentifiers, Collection<Integer> pTimeLimits, double pExploration) {
+    Preconditions.checkArgument(!pIdentifiers.isEmpty() && !pTimeLimits.isEmpty());
+    identifiers = new ArrayList<>(pIdentifiers);
+    timeLimits = new ArrayList<>(pTimeLimits);
+    exploration = pExploration;
+    pulls = new int[identifiers.size() * timeLimits.size()];
+    rewardSums = new double[pulls.length];
+  }
+
+  @Override
+  public void reportAlgorithmProgress(double progress, int timeConsumption) {
+    if (lastArm < 0) {
+      return;
+    }
+    // a negative progress means that the analysis does not report progress
+    double rate = progress > 0 && timeConsumption > 0 ? progress / timeConsumption : 0.0;
+    pulls[lastArm]++;
+    rewardSums[lastArm] += rate;
+    totalPulls++;
+    maxRate = Math.max(maxRate, rate);
+    lastArm = -1;
+  }
+
+  @Override
+  public void reportCoverage(List<CFAEdge> coveredEdges) {}
+
+  @Override
+  public boolean hasNextControlAction() {
+    return true;
+  }
+
+  @Override
+  public AlgorithmControl nextControlAction() {
+    lastArm = selectArm();
+    return new AlgorithmControl(
+        identifiers.get(lastArm % identifiers.size()),
+        timeLimits.get(lastArm / identifiers.size()));
+  }
+
+  private int selectArm() {
+    int best = -1;
+    double bestScore = Double.NEGATIVE_INFINITY;
+    for (int arm = 0; arm < pulls.length; arm++) {
+      if (pulls[arm] == 0) {
+        // arms are ordered by time limit, so this is the cheapest untried arm
+        return arm;
+      }
+      double mean = rewardSums[arm] / pulls[arm];
+      if (maxRate > 0) {
+        mean /= maxRate;
+      }
+      double score = mean + exploration * Math.sqrt(Math.log(totalPulls) / pulls[arm]);
+      if (score > bestScore) {
+        best = arm;
+        bestScore = score;
+      }
+    }
+    return best;
+  }
+}
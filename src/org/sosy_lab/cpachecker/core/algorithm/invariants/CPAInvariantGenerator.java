@@ -23,6 +23,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.LazyFutureTask;
@@ -113,6 +114,9 @@ public class CPAInvariantGenerator extends AbstractInvariantGenerator
 
   private volatile boolean programIsSafe = false;
 
+  // increased whenever a new reached set with invariants becomes available
+  private final AtomicLong invariantVersion = new AtomicLong();
+
   @SuppressWarnings("UnnecessaryAnonymousClass") // ShutdownNotifier needs a strong reference
   private final ShutdownRequestListener shutdownListener =
       new ShutdownRequestListener() {
@@ -273,6 +277,11 @@ public class CPAInvariantGenerator extends AbstractInvariantGenerator
     return programIsSafe;
   }
 
+  @Override
+  public long getInvariantVersion() {
+    return invariantVersion.get();
+  }
+
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
     if (cpa instanceof StatisticsProvider) {
@@ -341,6 +350,7 @@ public class CPAInvariantGenerator extends AbstractInvariantGenerator
 
       checkState(!taskReached.hasWaitingState());
       checkState(!taskReached.isEmpty());
+      invariantVersion.incrementAndGet();
       return AggregatedReachedSets.singleton(taskReached);
     }
   }
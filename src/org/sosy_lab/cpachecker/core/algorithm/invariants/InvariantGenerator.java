@@ -27,6 +27,9 @@ import org.sosy_lab.cpachecker.exceptions.CPAException;
  */
 public interface InvariantGenerator {
 
+  /** Value of {@link #getInvariantVersion()} for generators that do not track their updates. */
+  long UNKNOWN_INVARIANT_VERSION = -1;
+
   /**
    * Checks if the invariant generator has already been started.
    *
@@ -81,4 +84,17 @@ public interface InvariantGenerator {
    * further checks are necessary. If possible, this method should be cheap.
    */
   boolean isProgramSafe();
+
+  /**
+   * Returns a number that is increased every time this generator publishes new invariants, or
+   * {@link #UNKNOWN_INVARIANT_VERSION} if the generator does not keep track of its updates.
+   *
+   * <p>Clients that repeatedly query the invariants (e.g., while the generator keeps running in
+   * the background) can use this to notice new invariants as soon as they become available, and to
+   * avoid rebuilding their formulas from the supplier if nothing changed since the last query. To
+   * not miss an update, the version should be retrieved before the supplier is queried.
+   */
+  default long getInvariantVersion() {
+    return UNKNOWN_INVARIANT_VERSION;
+  }
 }
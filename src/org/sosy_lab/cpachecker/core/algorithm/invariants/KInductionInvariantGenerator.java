@@ -49,6 +49,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.LazyFutureTask;
 import org.sosy_lab.common.ShutdownManager;
@@ -189,6 +190,10 @@ public class KInductionInvariantGenerator extends AbstractInvariantGenerator
 
   private final boolean async;
 
+  // increased whenever a candidate invariant is confirmed,
+  // such that consumers can pick up new invariants while the generation is still running
+  private final AtomicLong invariantVersion = new AtomicLong();
+
   // After start(), this will hold a Future for the final result of the invariant generation.
   // We use a Future instead of just the atomic reference below
   // to be able to ask for termination and see thrown exceptions.
@@ -330,12 +335,17 @@ public class KInductionInvariantGenerator extends AbstractInvariantGenerator
           @Override
           public void confirmCandidates(Iterable<CandidateInvariant> pCandidates) {
             pCandidateGenerator.confirmCandidates(pCandidates);
+            boolean newInvariants = false;
             for (CandidateInvariant invariant : pCandidates) {
               if (!(invariant instanceof TargetLocationCandidateInvariant)
                   && confirmedCandidates.add(invariant)) {
                 ++stats.numberOfConfirmedCandidates;
+                newInvariants = true;
               }
             }
+            if (newInvariants) {
+              invariantVersion.incrementAndGet();
+            }
           }
         };
 
@@ -441,6 +451,16 @@ public class KInductionInvariantGenerator extends AbstractInvariantGenerator
     return algorithm.isProgramSafe();
   }
 
+  @Override
+  public long getInvariantVersion() {
+    // the invariants also contain those of the invariant generator used by the induction prover
+    long proverVersion = algorithm.getInvariantVersion();
+    if (proverVersion == UNKNOWN_INVARIANT_VERSION) {
+      return UNKNOWN_INVARIANT_VERSION;
+    }
+    return invariantVersion.get() + proverVersion;
+  }
+
   @Override
   public void collectStatistics(Collection<Statistics> pStatsCollection) {
     algorithm.collectStatistics(pStatsCollection);
@@ -22,6 +22,8 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.SetMultimap;
 import com.google.common.io.Resources;
 import java.io.BufferedReader;
@@ -40,6 +42,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -126,10 +129,10 @@ public class ReportGenerator {
 
   private final @Nullable Path logFile;
   private final ImmutableList<String> sourceFiles;
-  private final Map<Integer, Object> argNodes;
-  private final Map<String, Object> argEdges;
-  private final Map<String, Object> argRelevantEdges;
-  private final Map<Integer, Object> argRelevantNodes;
+  // The ARG is written directly from the reached set and not collected in maps of JSON objects
+  // before, because for large ARGs these maps need much more memory than the ARG itself.
+  private @Nullable UnmodifiableReachedSet argReached;
+  private SetMultimap<ARGState, ARGState> relevantArg;
   private final Map<String, Object> argReducedEdges;
   private final Map<String, Map<String, Object>> argReducedNodes;
   private Optional<Witness> witnessOptional;
@@ -147,10 +150,7 @@ public class ReportGenerator {
     logFile = pLogFile;
     config.inject(this);
     sourceFiles = pSourceFiles;
-    argNodes = new HashMap<>();
-    argEdges = new HashMap<>();
-    argRelevantEdges = new HashMap<>();
-    argRelevantNodes = new HashMap<>();
+    relevantArg = ImmutableSetMultimap.of();
     argReducedEdges = new HashMap<>();
     argReducedNodes = new HashMap<>();
     witnessOptional = Optional.empty();
@@ -186,10 +186,14 @@ public class ReportGenerator {
 
     // we cannot export the graph for some special analyses, e.g., termination analysis
     if (!pReached.isEmpty() && pReached.getFirstState() instanceof ARGState) {
-      buildArgGraphData(pReached);
-      if (!argNodes.isEmpty() && !argEdges.isEmpty()) {
+      if (from(pReached).anyMatch(state -> !((ARGState) state).getChildren().isEmpty())) {
         // makes no sense to create other data structures that we will not show anyway
-        buildRelevantArgGraphData(pReached);
+        argReached = pReached;
+        relevantArg =
+            ARGUtils.projectARG(
+                (ARGState) pReached.getFirstState(),
+                ARGState::getChildren,
+                ARGUtils::isRelevantState);
         buildReducedArgGraphData();
       }
     }
@@ -393,18 +397,18 @@ public class ReportGenerator {
 
   private void insertArgJson(Writer writer) throws IOException {
     writer.write("var argJson = {");
-    if (!argNodes.isEmpty() && !argEdges.isEmpty()) {
+    if (argReached != null) {
       writer.write("\n\"nodes\":");
-      JSON.writeJSONString(argNodes.values(), writer);
+      writeArgNodes(writer, argReached);
       writer.write(",\n\"edges\":");
-      JSON.writeJSONString(argEdges.values(), writer);
+      writeArgEdges(writer, argReached);
       writer.write("\n");
     }
-    if (!argRelevantEdges.isEmpty() && !argRelevantNodes.isEmpty()) {
+    if (!relevantArg.isEmpty()) {
       writer.write(",\n\"relevantnodes\":");
-      JSON.writeJSONString(argRelevantNodes.values(), writer);
+      writeRelevantArgNodes(writer);
       writer.write(",\n\"relevantedges\":");
-      JSON.writeJSONString(argRelevantEdges.values(), writer);
+      writeRelevantArgEdges(writer);
       writer.write("\n");
     }
     if (!argReducedEdges.isEmpty() || !argReducedNodes.isEmpty()) {
@@ -666,62 +670,94 @@ public class ReportGenerator {
         .toSet();
   }
 
-  /** Build ARG data for all ARG states in the reached set. */
-  private void buildArgGraphData(UnmodifiableReachedSet reached) {
+  /**
+   * Writes a JSON array with the nodes for all ARG states in the reached set and for the covered
+   * states, which are not contained in the reached set.
+   */
+  private void writeArgNodes(Writer writer, UnmodifiableReachedSet reached) throws IOException {
+    JsonArrayWriter nodes = new JsonArrayWriter(writer);
+    Set<Integer> written = new HashSet<>();
     for (AbstractState entry : reached) {
-      int parentStateId = ((ARGState) entry).getStateId();
-      for (CFANode node : AbstractStates.extractLocations(entry)) {
-        if (!argNodes.containsKey(parentStateId)) {
-          argNodes.put(parentStateId, createArgNode(parentStateId, node, (ARGState) entry));
+      ARGState parent = (ARGState) entry;
+      int parentStateId = parent.getStateId();
+      for (CFANode node : AbstractStates.extractLocations(parent)) {
+        if (written.add(parentStateId)) {
+          nodes.add(createArgNode(parentStateId, node, parent));
         }
-        if (!((ARGState) entry).getChildren().isEmpty()) {
-          for (ARGState child : ((ARGState) entry).getChildren()) {
-            int childStateId = child.getStateId();
-            // Covered state is not contained in the reached set
-            if (child.isCovered()) {
-              String label = child.toDOTLabel();
-              label = label.length() > 2 ? label.substring(0, label.length() - 2) : "";
-              createCoveredArgNode(childStateId, child, label);
-              createCoveredArgEdge(childStateId, child.getCoveringState().getStateId());
-            }
-            argEdges.put(
-                parentStateId + "->" + childStateId,
-                createArgEdge(
-                    parentStateId, childStateId, ((ARGState) entry).getEdgesToChild(child)));
+        for (ARGState child : parent.getChildren()) {
+          int childStateId = child.getStateId();
+          if (child.isCovered() && written.add(childStateId)) {
+            String label = child.toDOTLabel();
+            label = label.length() > 2 ? label.substring(0, label.length() - 2) : "";
+            nodes.add(createCoveredArgNode(childStateId, child, label));
           }
         }
       }
     }
+    nodes.close();
   }
 
-  /** Build ARG data for all relevant/important ARG states in the reached set. */
-  private void buildRelevantArgGraphData(UnmodifiableReachedSet reached) {
-    SetMultimap<ARGState, ARGState> relevantSetMultimap =
-        ARGUtils.projectARG(
-            (ARGState) reached.getFirstState(), ARGState::getChildren, ARGUtils::isRelevantState);
-
-    for (Entry<ARGState, Collection<ARGState>> entry : relevantSetMultimap.asMap().entrySet()) {
-      ARGState parent = entry.getKey();
-      Collection<ARGState> children = entry.getValue();
+  /** Writes a JSON array with the edges between the ARG states in the reached set. */
+  private void writeArgEdges(Writer writer, UnmodifiableReachedSet reached) throws IOException {
+    JsonArrayWriter edges = new JsonArrayWriter(writer);
+    // a state may be covered by its own parent, so both kinds of edges are deduplicated separately
+    Set<String> writtenTreeEdges = new HashSet<>();
+    Set<String> writtenCoveredEdges = new HashSet<>();
+    for (AbstractState entry : reached) {
+      ARGState parent = (ARGState) entry;
       int parentStateId = parent.getStateId();
-      for (CFANode node : AbstractStates.extractLocations(parent)) {
-        if (!argRelevantNodes.containsKey(parentStateId)) {
-          argRelevantNodes.put(parentStateId, createArgNode(parentStateId, node, parent));
+      if (Iterables.isEmpty(AbstractStates.extractLocations(parent))) {
+        continue;
+      }
+      for (ARGState child : parent.getChildren()) {
+        int childStateId = child.getStateId();
+        if (writtenTreeEdges.add(parentStateId + "->" + childStateId)) {
+          edges.add(createArgEdge(parentStateId, childStateId, parent.getEdgesToChild(child)));
+        }
+        // Covered state is not contained in the reached set
+        if (child.isCovered()) {
+          int coveringStateId = child.getCoveringState().getStateId();
+          if (writtenCoveredEdges.add(coveringStateId + "->" + childStateId)) {
+            edges.add(createCoveredArgEdge(childStateId, coveringStateId));
+          }
         }
       }
+    }
+    edges.close();
+  }
 
-      for (ARGState child : children) {
-        int childStateId = child.getStateId();
-        for (CFANode node : AbstractStates.extractLocations(child)) {
-          if (!argRelevantNodes.containsKey(childStateId)) {
-            argRelevantNodes.put(childStateId, createArgNode(childStateId, node, child));
+  /** Writes a JSON array with the nodes for all relevant/important ARG states. */
+  private void writeRelevantArgNodes(Writer writer) throws IOException {
+    JsonArrayWriter nodes = new JsonArrayWriter(writer);
+    Set<Integer> written = new HashSet<>();
+    for (Entry<ARGState, Collection<ARGState>> entry : relevantArg.asMap().entrySet()) {
+      for (ARGState state : Iterables.concat(ImmutableList.of(entry.getKey()), entry.getValue())) {
+        int stateId = state.getStateId();
+        for (CFANode node : AbstractStates.extractLocations(state)) {
+          if (written.add(stateId)) {
+            nodes.add(createArgNode(stateId, node, state));
           }
-          argRelevantEdges.put(
-              parentStateId + "->" + childStateId,
-              createArgEdge(parentStateId, childStateId, parent.getEdgesToChild(child)));
         }
       }
     }
+    nodes.close();
+  }
+
+  /** Writes a JSON array with the edges between the relevant/important ARG states. */
+  private void writeRelevantArgEdges(Writer writer) throws IOException {
+    JsonArrayWriter edges = new JsonArrayWriter(writer);
+    Set<String> written = new HashSet<>();
+    for (Entry<ARGState, ARGState> entry : relevantArg.entries()) {
+      ARGState parent = entry.getKey();
+      ARGState child = entry.getValue();
+      int parentStateId = parent.getStateId();
+      int childStateId = child.getStateId();
+      if (!Iterables.isEmpty(AbstractStates.extractLocations(child))
+          && written.add(parentStateId + "->" + childStateId)) {
+        edges.add(createArgEdge(parentStateId, childStateId, parent.getEdgesToChild(child)));
+      }
+    }
+    edges.close();
   }
 
   /** Build graph data for the reduced ARG */
@@ -769,34 +805,33 @@ public class ReportGenerator {
     return "";
   }
 
-  private void createCoveredArgNode(int childStateId, ARGState child, String dotLabel) {
+  private Map<String, Object> createCoveredArgNode(
+      int childStateId, ARGState child, String dotLabel) {
     Map<String, Object> nodeData = new HashMap<>();
     for (CFANode coveredNode : AbstractStates.extractLocations(child)) {
-      if (!argNodes.containsKey(childStateId)) {
-        nodeData.put("index", childStateId);
-        nodeData.put("func", coveredNode.getFunctionName());
-        nodeData.put(
-            "label",
-            childStateId
-                + " @ "
-                + coveredNode
-                + "\n"
-                + coveredNode.getFunctionName()
-                + nodeTypeInNodeLabel(coveredNode)
-                + dotLabel);
-        nodeData.put("type", "covered");
-        argNodes.put(childStateId, nodeData);
-      }
+      nodeData.put("index", childStateId);
+      nodeData.put("func", coveredNode.getFunctionName());
+      nodeData.put(
+          "label",
+          childStateId
+              + " @ "
+              + coveredNode
+              + "\n"
+              + coveredNode.getFunctionName()
+              + nodeTypeInNodeLabel(coveredNode)
+              + dotLabel);
+      nodeData.put("type", "covered");
     }
+    return nodeData;
   }
 
-  private void createCoveredArgEdge(int parentStateId, int coveringStateId) {
+  private Map<String, Object> createCoveredArgEdge(int parentStateId, int coveringStateId) {
     Map<String, Object> coveredEdge = new HashMap<>();
     coveredEdge.put("source", parentStateId);
     coveredEdge.put("target", coveringStateId);
     coveredEdge.put("label", "covered by");
     coveredEdge.put("type", "covered");
-    argEdges.put("" + coveringStateId + "->" + parentStateId, coveredEdge);
+    return coveredEdge;
   }
 
   public static Map<String, Object> createArgEdge(
@@ -860,4 +895,31 @@ public class ReportGenerator {
         .replaceAll("\\s+", " ")
         .replace(" ;", ";");
   }
+
+  /**
+   * Writes the elements of a JSON array one after another, such that the elements never need to be
+   * kept in memory all at once.
+   */
+  private static final class JsonArrayWriter {
+
+    private final Writer writer;
+    private boolean empty = true;
+
+    JsonArrayWriter(Writer pWriter) throws IOException {
+      writer = pWriter;
+      writer.write('[');
+    }
+
+    void add(Object pElement) throws IOException {
+      if (!empty) {
+        writer.write(',');
+      }
+      empty = false;
+      JSON.writeJSONString(pElement, writer);
+    }
+
+    void close() throws IOException {
+      writer.write(']');
+    }
+  }
 }
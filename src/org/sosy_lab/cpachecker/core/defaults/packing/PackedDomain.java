@@ -0,0 +1,63 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.defaults.packing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+
+/**
+ * Lifts an abstract domain to {@link PackedState}s: the partial order and the join are computed
+ * pack-wise.
+ */
+public class PackedDomain implements AbstractDomain {
+
+  private final AbstractDomain packDomain;
+
+  public PackedDomain(AbstractDomain pPackDomain) {
+    packDomain = checkNotNull(pPackDomain);
+  }
+
+  @Override
+  public AbstractState join(AbstractState pState1, AbstractState pState2)
+      throws CPAException, InterruptedException {
+    PackedState state1 = (PackedState) pState1;
+    PackedState state2 = (PackedState) pState2;
+    checkArgument(state1.getNumberOfPacks() == state2.getNumberOfPacks());
+
+    List<AbstractState> joined = new ArrayList<>(state1.getNumberOfPacks());
+    boolean changed = false;
+    for (int i = 0; i < state1.getNumberOfPacks(); i++) {
+      AbstractState component = packDomain.join(state1.get(i), state2.get(i));
+      changed |= component != state2.get(i);
+      joined.add(component);
+    }
+    return changed ? new PackedState(joined) : state2;
+  }
+
+  @Override
+  public boolean isLessOrEqual(AbstractState pState1, AbstractState pState2)
+      throws CPAException, InterruptedException {
+    PackedState state1 = (PackedState) pState1;
+    PackedState state2 = (PackedState) pState2;
+    checkArgument(state1.getNumberOfPacks() == state2.getNumberOfPacks());
+
+    for (int i = 0; i < state1.getNumberOfPacks(); i++) {
+      if (!packDomain.isLessOrEqual(state1.get(i), state2.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,58 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.defaults.packing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.sosy_lab.cpachecker.core.defaults.MergeSepOperator;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.MergeOperator;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.exceptions.CPAException;
+
+/**
+ * Lifts a merge operator to {@link PackedState}s by merging each pack separately. If the merge
+ * operator of the packs does not change any pack, the reached state is returned unchanged, such
+ * that merge-sep for the packs is also merge-sep for the packed states.
+ */
+public class PackedMergeOperator implements MergeOperator {
+
+  private final MergeOperator packMergeOperator;
+
+  private PackedMergeOperator(MergeOperator pPackMergeOperator) {
+    packMergeOperator = checkNotNull(pPackMergeOperator);
+  }
+
+  public static MergeOperator getInstance(MergeOperator pPackMergeOperator) {
+    if (pPackMergeOperator == MergeSepOperator.getInstance()) {
+      return pPackMergeOperator;
+    }
+    return new PackedMergeOperator(pPackMergeOperator);
+  }
+
+  @Override
+  public AbstractState merge(AbstractState pState1, AbstractState pState2, Precision pPrecision)
+      throws CPAException, InterruptedException {
+    PackedState state1 = (PackedState) pState1;
+    PackedState state2 = (PackedState) pState2;
+    checkArgument(state1.getNumberOfPacks() == state2.getNumberOfPacks());
+
+    List<AbstractState> merged = new ArrayList<>(state1.getNumberOfPacks());
+    boolean changed = false;
+    for (int i = 0; i < state1.getNumberOfPacks(); i++) {
+      AbstractState component = packMergeOperator.merge(state1.get(i), state2.get(i), pPrecision);
+      changed |= component != state2.get(i);
+      merged.add(component);
+    }
+    return changed ? new PackedState(merged) : state2;
+  }
+}
@@ -0,0 +1,64 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.defaults.packing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+
+/**
+ * An abstract state that consists of one component state per variable pack. The concretization is
+ * the intersection of the concretizations of all components.
+ */
+public final class PackedState implements AbstractState {
+
+  private final ImmutableList<AbstractState> components;
+
+  public PackedState(List<? extends AbstractState> pComponents) {
+    checkArgument(!pComponents.isEmpty(), "A packed state needs at least one pack");
+    components = ImmutableList.copyOf(pComponents);
+  }
+
+  /** Returns the state of the pack with the given index. */
+  public AbstractState get(int pPackIndex) {
+    return components.get(pPackIndex);
+  }
+
+  public ImmutableList<AbstractState> getComponents() {
+    return components;
+  }
+
+  public int getNumberOfPacks() {
+    return components.size();
+  }
+
+  @Override
+  public boolean equals(Object pOther) {
+    if (this == pOther) {
+      return true;
+    }
+    return pOther instanceof PackedState && components.equals(((PackedState) pOther).components);
+  }
+
+  @Override
+  public int hashCode() {
+    return components.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < components.size(); i++) {
+      sb.append("pack ").append(i).append(": ").append(components.get(i)).append('\n');
+    }
+    return sb.toString();
+  }
+}
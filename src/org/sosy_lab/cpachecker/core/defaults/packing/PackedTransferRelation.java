@@ -0,0 +1,74 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.defaults.packing;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.core.defaults.SingleEdgeTransferRelation;
+import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.core.interfaces.Precision;
+import org.sosy_lab.cpachecker.core.interfaces.TransferRelation;
+import org.sosy_lab.cpachecker.exceptions.CPATransferException;
+import org.sosy_lab.cpachecker.util.variableclassification.VariablePacks;
+
+/**
+ * Lifts a transfer relation that is parameterized by a {@link VariableTrackingPrecision} to {@link
+ * PackedState}s. The transfer relation of the packs is applied to each pack with a precision that
+ * is restricted to the variables of the pack, so each pack only ever contains its own variables.
+ *
+ * <p>If a pack has several successors (e.g., because a disequality is split), the successors of
+ * the packed state are the combinations of all successors of the packs. If any pack has no
+ * successor, the edge is infeasible and the packed state has no successor.
+ */
+public class PackedTransferRelation extends SingleEdgeTransferRelation {
+
+  private final TransferRelation packTransferRelation;
+  private final VariablePacks packs;
+
+  public PackedTransferRelation(TransferRelation pPackTransferRelation, VariablePacks pPacks) {
+    packTransferRelation = checkNotNull(pPackTransferRelation);
+    packs = checkNotNull(pPacks);
+  }
+
+  @Override
+  public Collection<? extends AbstractState> getAbstractSuccessorsForEdge(
+      AbstractState pState, Precision pPrecision, CFAEdge pCfaEdge)
+      throws CPATransferException, InterruptedException {
+    PackedState state = (PackedState) pState;
+    VariableTrackingPrecision precision = (VariableTrackingPrecision) pPrecision;
+    checkArgument(state.getNumberOfPacks() == packs.size());
+
+    List<List<AbstractState>> successorsPerPack = new ArrayList<>(packs.size());
+    for (int i = 0; i < packs.size(); i++) {
+      VariableTrackingPrecision packPrecision =
+          VariableTrackingPrecision.restrictToPack(precision, packs, i);
+      Collection<? extends AbstractState> successors =
+          packTransferRelation.getAbstractSuccessorsForEdge(state.get(i), packPrecision, pCfaEdge);
+      if (successors.isEmpty()) {
+        return ImmutableSet.of();
+      }
+      successorsPerPack.add(ImmutableList.copyOf(successors));
+    }
+
+    List<PackedState> result = new ArrayList<>();
+    for (List<AbstractState> combination : Lists.cartesianProduct(successorsPerPack)) {
+      result.add(new PackedState(combination));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,17 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * Generic variable packing for relational CPAs: the tracked variables are split into {@link
+ * org.sosy_lab.cpachecker.util.variableclassification.VariablePacks packs}, and each pack is
+ * analyzed in its own (small) abstract state by the original operators of the CPA.
+ */
+@javax.annotation.ParametersAreNonnullByDefault
+@org.sosy_lab.common.annotations.FieldsAreNonnullByDefault
+@org.sosy_lab.common.annotations.ReturnValuesAreNonnullByDefault
+package org.sosy_lab.cpachecker.core.defaults.packing;
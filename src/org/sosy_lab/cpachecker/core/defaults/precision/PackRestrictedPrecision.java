@@ -0,0 +1,119 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.core.defaults.precision;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.Multimap;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.cfa.types.Type;
+import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.variableclassification.VariablePacks;
+
+/**
+ * A precision that tracks a variable only if the baseline precision tracks it and if it belongs to
+ * a specific {@link VariablePacks pack}.
+ */
+final class PackRestrictedPrecision extends VariableTrackingPrecision {
+
+  private final VariableTrackingPrecision baseline;
+  private final VariablePacks packs;
+  private final int packIndex;
+
+  PackRestrictedPrecision(
+      VariableTrackingPrecision pBaseline, VariablePacks pPacks, int pPackIndex) {
+    baseline = checkNotNull(pBaseline);
+    packs = checkNotNull(pPacks);
+    packIndex = pPackIndex;
+  }
+
+  @Override
+  public boolean allowsAbstraction() {
+    return baseline.allowsAbstraction();
+  }
+
+  @Override
+  public boolean isTracking(MemoryLocation pVariable, Type pType, CFANode pLocation) {
+    return packs.isInPack(pVariable, packIndex)
+        && baseline.isTracking(pVariable, pType, pLocation);
+  }
+
+  @Override
+  public VariableTrackingPrecision withIncrement(Multimap<CFANode, MemoryLocation> pIncrement) {
+    VariableTrackingPrecision refined = baseline.withIncrement(pIncrement);
+    return refined == baseline ? this : new PackRestrictedPrecision(refined, packs, packIndex);
+  }
+
+  @Override
+  public int getSize() {
+    return baseline.getSize();
+  }
+
+  @Override
+  public void serialize(Writer pWriter) throws IOException {
+    baseline.serialize(pWriter);
+  }
+
+  @Override
+  public VariableTrackingPrecision join(VariableTrackingPrecision pOtherPrecision) {
+    VariableTrackingPrecision other =
+        pOtherPrecision instanceof PackRestrictedPrecision
+            ? ((PackRestrictedPrecision) pOtherPrecision).baseline
+            : pOtherPrecision;
+    return new PackRestrictedPrecision(baseline.join(other), packs, packIndex);
+  }
+
+  @Override
+  public boolean tracksTheSameVariablesAs(VariableTrackingPrecision pOtherPrecision) {
+    return equals(pOtherPrecision);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return baseline.isEmpty();
+  }
+
+  @Override
+  @SuppressWarnings("ForOverride")
+  protected Class<? extends ConfigurableProgramAnalysis> getCPAClass() {
+    return baseline.getCPAClass();
+  }
+
+  @Override
+  public boolean equals(Object pOther) {
+    if (this == pOther) {
+      return true;
+    }
+    if (!(pOther instanceof PackRestrictedPrecision)) {
+      return false;
+    }
+    PackRestrictedPrecision other = (PackRestrictedPrecision) pOther;
+    return packIndex == other.packIndex
+        && packs.equals(other.packs)
+        && baseline.equals(other.baseline);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(baseline, packIndex);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(PackRestrictedPrecision.class)
+        .add("pack", packIndex)
+        .add("baseline", baseline)
+        .toString();
+  }
+}
@@ -27,6 +27,7 @@ import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
 import org.sosy_lab.cpachecker.util.Precisions;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
 import org.sosy_lab.cpachecker.util.variableclassification.VariableClassification;
+import org.sosy_lab.cpachecker.util.variableclassification.VariablePacks;
 
 public abstract class VariableTrackingPrecision implements Precision {
 
@@ -88,6 +89,19 @@ public abstract class VariableTrackingPrecision implements Precision {
     }
   }
 
+  /**
+   * This method creates a precision that only tracks the variables of the given pack that are also
+   * tracked by the baseline precision.
+   *
+   * @param pBaseline The precision which should be restricted.
+   * @param pPacks The packs of variables.
+   * @param pPackIndex The index of the pack to restrict the precision to.
+   */
+  public static VariableTrackingPrecision restrictToPack(
+      VariableTrackingPrecision pBaseline, VariablePacks pPacks, int pPackIndex) {
+    return new PackRestrictedPrecision(pBaseline, pPacks, pPackIndex);
+  }
+
   public static Predicate<Precision> isMatchingCPAClass(
       final Class<? extends ConfigurableProgramAnalysis> cpaClass) {
     return pPrecision ->
@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -148,7 +149,9 @@ public class ConstraintSystem {
 
     buildGraph(bConstr, sConstr, cConstr, g);
 
-    Set<DirectedGraph.Node> workset = new HashSet<>();
+    // Processed in insertion order. Taking an arbitrary element from a hash set would need to scan
+    // its buckets, which gets expensive once most of the elements were removed.
+    Set<DirectedGraph.Node> workset = new LinkedHashSet<>();
 
     // add all nodes in graph to the initial workset
     for (Map.Entry<String, DirectedGraph.Node> entry : g.getNameMappings()) {
@@ -169,10 +172,12 @@ public class ConstraintSystem {
 
       // two lines for HCD
       if (n.mergePts != null) {
-        g.mergeNodes(n.mergePts, n.getPointsToNodesSet());
+        workset.add(g.mergeNodes(n.mergePts, n.getPointsToNodesSet()));
       }
 
-      for (DirectedGraph.Node v : n.getPointsToNodesSet()) {
+      // difference propagation: the complex constraints were already handled for all variables
+      // that were in the points-to set the last time this node was processed
+      for (DirectedGraph.Node v : n.pollNewPointsToNodes()) {
 
         for (String aStr : n.complexConstrMeSub) {
           DirectedGraph.Node a = g.getNode(aStr);
@@ -9,10 +9,14 @@
 package org.sosy_lab.cpachecker.cpa.andersen.util;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -48,8 +52,23 @@ public class DirectedGraph {
      */
     public final Set<String> complexConstrMeSuper = new HashSet<>();
 
-    /** This {@link DirectedGraph.Node}s points-to set. */
-    private final Set<String> pointsToSet = new HashSet<>();
+    /**
+     * This {@link DirectedGraph.Node}s points-to set. Variables are only ever added to it, and it
+     * keeps their insertion order.
+     */
+    private final Set<String> pointsToSet = new LinkedHashSet<>();
+
+    /**
+     * The variables of the points-to set in insertion order, such that new variables can be
+     * accessed by index.
+     */
+    private final List<String> pointsToList = new ArrayList<>();
+
+    /**
+     * The number of variables at the start of {@link #pointsToList} that were already returned by
+     * {@link #pollNewPointsToNodes()}.
+     */
+    private int polledPointerTargets = 0;
 
     /** This {@link DirectedGraph.Node}s predecessors. */
     private final Set<DirectedGraph.Node> predecessors = new HashSet<>();
@@ -113,7 +132,11 @@ public class DirectedGraph {
      */
     public boolean propagatePointerTargetsTo(DirectedGraph.Node other) {
 
-      return other.pointsToSet.addAll(pointsToSet);
+      boolean changed = false;
+      for (String var : pointsToList) {
+        changed |= other.addPointerTarget(var);
+      }
+      return changed;
     }
 
     /**
@@ -121,10 +144,15 @@ public class DirectedGraph {
      *
      * @param var Name of the variable that should be added to this {@link DirectedGraph.Node}s
      *     points-to set.
+     * @return <code>true</code> if the variable was not yet in the points-to set.
      */
-    public void addPointerTarget(String var) {
+    public boolean addPointerTarget(String var) {
 
-      pointsToSet.add(var);
+      if (pointsToSet.add(var)) {
+        pointsToList.add(var);
+        return true;
+      }
+      return false;
     }
 
     /**
@@ -134,7 +162,7 @@ public class DirectedGraph {
      */
     public Set<String> getPointsToSet() {
 
-      return pointsToSet;
+      return Collections.unmodifiableSet(pointsToSet);
     }
 
     /**
@@ -152,6 +180,29 @@ public class DirectedGraph {
 
       return ptNSet;
     }
+
+    /**
+     * Returns a {@link Set} of {@link DirectedGraph.Node}s of the variables that were added to this
+     * ones points-to set since the last call of this method. This allows to handle the complex
+     * constraints of this node only for the difference of its points-to set.
+     *
+     * <p>If new complex constraints are added to this node by merging another node into it, the
+     * next call returns the nodes of the whole points-to set again.
+     *
+     * @return the {@link DirectedGraph.Node}s the new variables of this ones points-to set
+     *     represent.
+     */
+    public Set<DirectedGraph.Node> pollNewPointsToNodes() {
+
+      Set<DirectedGraph.Node> ptNSet = new HashSet<>();
+
+      for (String n : pointsToList.subList(polledPointerTargets, pointsToList.size())) {
+        ptNSet.add(getNode(n));
+      }
+      polledPointerTargets = pointsToList.size();
+
+      return ptNSet;
+    }
   }
 
   /**
@@ -314,6 +365,13 @@ public class DirectedGraph {
 
     old.propagatePointerTargetsTo(merged);
 
+    boolean newComplexConstraints = merged.complexConstrMeSub.addAll(old.complexConstrMeSub);
+    newComplexConstraints |= merged.complexConstrMeSuper.addAll(old.complexConstrMeSuper);
+    if (newComplexConstraints) {
+      // the new constraints have to be handled for the whole points-to set
+      merged.polledPointerTargets = 0;
+    }
+
     return merged;
   }
 
@@ -18,6 +18,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -39,6 +41,10 @@ import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.CPAcheckerResult.Result;
 import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
 import org.sosy_lab.cpachecker.core.defaults.StopSepOperator;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedDomain;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedMergeOperator;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedState;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedTransferRelation;
 import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
@@ -56,6 +62,7 @@ import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.exceptions.CPATransferException;
 import org.sosy_lab.cpachecker.util.ApronManager;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+import org.sosy_lab.cpachecker.util.variableclassification.VariablePacks;
 
 @Options(prefix = "cpa.apron")
 public final class ApronCPA implements ProofCheckerCPA, StatisticsProvider {
@@ -95,6 +102,21 @@ public final class ApronCPA implements ProofCheckerCPA, StatisticsProvider {
   @FileOption(FileOption.Type.OUTPUT_FILE)
   private Path precisionFile = null;
 
+  @Option(
+      secure = true,
+      description =
+          "split the tracked variables into packs of dependent variables (computed from the"
+              + " variable classification) and use a separate abstract value for each pack")
+  private boolean usePacking = false;
+
+  @Option(
+      secure = true,
+      description =
+          "maximal number of variables in one pack, larger groups of dependent variables are"
+              + " split into several packs")
+  @IntegerOption(min = 1)
+  private int maxPackSize = 32;
+
   private final AbstractDomain abstractDomain;
   private final TransferRelation transferRelation;
   private final MergeOperator mergeOperator;
@@ -105,6 +127,7 @@ public final class ApronCPA implements ProofCheckerCPA, StatisticsProvider {
   private final ShutdownNotifier shutdownNotifier;
   private final CFA cfa;
   private final ApronManager apronManager;
+  private final @Nullable VariablePacks packs;
 
   private ApronCPA(Configuration config, LogManager log, ShutdownNotifier shutdownNotifier, CFA cfa)
       throws InvalidConfigurationException, CPAException {
@@ -117,16 +140,37 @@ public final class ApronCPA implements ProofCheckerCPA, StatisticsProvider {
 
     apronManager = new ApronManager(domainType);
 
-    transferRelation =
+    TransferRelation apronTransferRelation =
         new ApronTransferRelation(logger, cfa.getLoopStructure().orElseThrow(), splitDisequalities);
 
     MergeOperator apronMergeOp = ApronMergeOperator.getInstance(apronDomain, config);
 
-    StopOperator apronStopOp = new StopSepOperator(apronDomain);
-
-    abstractDomain = apronDomain;
-    mergeOperator = apronMergeOp;
-    stopOperator = apronStopOp;
+    if (usePacking) {
+      if (!cfa.getVarClassification().isPresent()) {
+        throw new InvalidConfigurationException(
+            "Variable classification not available but required for variable packing.");
+      }
+      if (initialPrecisionFile != null || precisionType.equals("REFINEABLE_EMPTY")) {
+        // both lead to a refinable precision below
+        throw new InvalidConfigurationException(
+            "Variable packing cannot be combined with a refinable precision"
+                + " or an initial precision file.");
+      }
+      packs =
+          VariablePacks.fromVariableClassification(
+              cfa.getVarClassification().orElseThrow(), maxPackSize);
+      PackedDomain packedDomain = new PackedDomain(apronDomain);
+      transferRelation = new PackedTransferRelation(apronTransferRelation, packs);
+      abstractDomain = packedDomain;
+      mergeOperator = PackedMergeOperator.getInstance(apronMergeOp);
+      stopOperator = new StopSepOperator(packedDomain);
+    } else {
+      packs = null;
+      transferRelation = apronTransferRelation;
+      abstractDomain = apronDomain;
+      mergeOperator = apronMergeOp;
+      stopOperator = new StopSepOperator(apronDomain);
+    }
     this.config = config;
     this.shutdownNotifier = shutdownNotifier;
     this.cfa = cfa;
@@ -177,6 +221,10 @@ public final class ApronCPA implements ProofCheckerCPA, StatisticsProvider {
   @Override
   public AbstractState getInitialState(CFANode pNode, StateSpacePartition pPartition) {
     try {
+      if (packs != null) {
+        return new PackedState(
+            Collections.nCopies(packs.size(), new ApronState(logger, apronManager)));
+      }
       return new ApronState(logger, apronManager);
     } catch (ApronException e) {
       throw new RuntimeException("An error occured while operating with the apron library", e);
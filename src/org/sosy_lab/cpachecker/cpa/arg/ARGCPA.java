@@ -118,7 +118,7 @@ public class ARGCPA extends AbstractSingleWrapperCPA
 
   @Override
   public TransferRelation getTransferRelation() {
-    return new ARGTransferRelation(getWrappedCpa().getTransferRelation());
+    return new ARGTransferRelation(getWrappedCpa().getTransferRelation(), stats.getEventLog());
   }
 
   @Override
@@ -130,7 +130,11 @@ public class ARGCPA extends AbstractSingleWrapperCPA
       return new ARGMergeJoinCPAEnabledAnalysis(wrappedMergeOperator, deleteInCPAEnabledAnalysis);
     } else {
       return new ARGMergeJoin(
-          wrappedMergeOperator, getWrappedCpa().getAbstractDomain(), logger, mergeOptions);
+          wrappedMergeOperator,
+          getWrappedCpa().getAbstractDomain(),
+          logger,
+          mergeOptions,
+          stats.getEventLog());
     }
   }
 
@@ -141,7 +145,8 @@ public class ARGCPA extends AbstractSingleWrapperCPA
         logger,
         inCPAEnabledAnalysis,
         keepCoveredStatesInReached,
-        coverTargetStates);
+        coverTargetStates,
+        stats.getEventLog());
   }
 
   @Override
@@ -173,7 +178,13 @@ public class ARGCPA extends AbstractSingleWrapperCPA
       throws InterruptedException {
     // TODO some code relies on the fact that this method is called only once and the result is the
     // root of the ARG
-    return new ARGState(getWrappedCpa().getInitialState(pNode, pPartition), null);
+    ARGState initialState =
+        new ARGState(getWrappedCpa().getInitialState(pNode, pPartition), null);
+    ARGEventLog eventLog = stats.getEventLog();
+    if (eventLog != null) {
+      eventLog.logRoot(initialState);
+    }
+    return initialState;
   }
 
   public LogManager getLogger() {
@@ -0,0 +1,205 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.arg;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import org.sosy_lab.common.JSON;
+import org.sosy_lab.common.io.IO;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+
+/**
+ * Append-only log of all changes to the ARG, written during the analysis. Each line of the log is
+ * a JSON object with the key "event" and one of the following values:
+ *
+ * <ul>
+ *   <li>"root": a new root state "id" was created,
+ *   <li>"state": a new state "id" was created as successor of "parent" along the CFA "edges",
+ *   <li>"replace": state "id" was replaced by the new state "by" (with the same parents and
+ *       children), e.g., because of precision adjustment,
+ *   <li>"merge": states "id" and "with" were merged into the new state "into",
+ *   <li>"cover": state "id" is covered by state "by",
+ *   <li>"uncover": state "id" is no longer covered,
+ *   <li>"remove": state "id" was removed from the ARG.
+ * </ul>
+ *
+ * Events that create states also contain whether the state is a "target" state. The events are
+ * formatted and written by a background thread, such that the analysis only has to record the ids
+ * of the involved states, and the log file can be inspected while the analysis is still running.
+ * If the background thread falls behind by too many events, the analysis waits for it, such that
+ * the pending events do not fill up the memory.
+ */
+public final class ARGEventLog implements AutoCloseable {
+
+  /** Maximum number of events that are waiting to be written. */
+  private static final int MAX_PENDING_EVENTS = 10000;
+
+  private final Writer writer;
+  private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>(MAX_PENDING_EVENTS);
+  private final ExecutorService executor;
+  private final LogManager logger;
+  private volatile boolean failed = false;
+  private volatile boolean closed = false;
+
+  private ARGEventLog(Writer pWriter, LogManager pLogger) {
+    writer = pWriter;
+    logger = pLogger;
+    executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            new ThreadFactoryBuilder().setNameFormat("arg-event-log").setDaemon(true).build(),
+            this::waitForQueue);
+  }
+
+  /** Called by the executor if the queue is full, blocks until the event can be queued. */
+  private void waitForQueue(Runnable pTask, ThreadPoolExecutor pExecutor) {
+    if (pExecutor.isShutdown()) {
+      throw new RejectedExecutionException("ARG event log was closed");
+    }
+    try {
+      queue.put(pTask);
+    } catch (InterruptedException e) {
+      // the event is lost, so the rest of the log would be inconsistent
+      failed = true;
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  static ARGEventLog open(Path pFile, LogManager pLogger) throws IOException {
+    return new ARGEventLog(IO.openOutputFile(pFile, StandardCharsets.UTF_8), pLogger);
+  }
+
+  void logRoot(ARGState pState) {
+    int id = pState.getStateId();
+    boolean target = pState.isTarget();
+    append(() -> ImmutableMap.of("event", "root", "id", id, "target", target));
+  }
+
+  void logSuccessor(ARGState pParent, ARGState pChild) {
+    int id = pChild.getStateId();
+    int parent = pParent.getStateId();
+    boolean target = pChild.isTarget();
+    ImmutableList<CFAEdge> edges = ImmutableList.copyOf(pParent.getEdgesToChild(pChild));
+    append(
+        () ->
+            ImmutableMap.of(
+                "event",
+                "state",
+                "id",
+                id,
+                "parent",
+                parent,
+                "edges",
+                Lists.transform(edges, CFAEdge::toString),
+                "target",
+                target));
+  }
+
+  void logReplacement(ARGState pOld, ARGState pNew) {
+    int id = pOld.getStateId();
+    int by = pNew.getStateId();
+    boolean target = pNew.isTarget();
+    append(() -> ImmutableMap.of("event", "replace", "id", id, "by", by, "target", target));
+  }
+
+  void logMerge(ARGState pState1, ARGState pState2, ARGState pMerged) {
+    int id = pState1.getStateId();
+    int with = pState2.getStateId();
+    int into = pMerged.getStateId();
+    boolean target = pMerged.isTarget();
+    append(
+        () ->
+            ImmutableMap.of(
+                "event", "merge", "id", id, "with", with, "into", into, "target", target));
+  }
+
+  void logCoverage(ARGState pCovered, ARGState pCovering) {
+    int id = pCovered.getStateId();
+    int by = pCovering.getStateId();
+    append(() -> ImmutableMap.of("event", "cover", "id", id, "by", by));
+  }
+
+  void logUncoverage(ARGState pState) {
+    int id = pState.getStateId();
+    append(() -> ImmutableMap.of("event", "uncover", "id", id));
+  }
+
+  void logRemoval(ARGState pState) {
+    int id = pState.getStateId();
+    append(() -> ImmutableMap.of("event", "remove", "id", id));
+  }
+
+  private void append(Supplier<Map<String, ?>> pEvent) {
+    if (failed || closed) {
+      // events after the end of the analysis (e.g., from later analyses reusing this CPA) are lost
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            if (failed) {
+              return;
+            }
+            try {
+              JSON.writeJSONString(pEvent.get(), writer);
+              writer.write('\n');
+              if (queue.isEmpty()) {
+                // the analysis is busy with other things, make the log visible up to here
+                writer.flush();
+              }
+            } catch (IOException e) {
+              failed = true;
+              logger.logUserException(Level.WARNING, e, "Could not write ARG event log");
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // log was closed concurrently
+    }
+  }
+
+  /** Writes all pending events and closes the log file. */
+  @Override
+  public void close() {
+    closed = true;
+    executor.shutdown();
+    try {
+      while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+        logger.log(Level.FINE, "Waiting for ARG event log to be written,", queue.size(), "left");
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    try {
+      writer.close();
+    } catch (IOException e) {
+      logger.logUserException(Level.WARNING, e, "Could not write ARG event log");
+    }
+  }
+}
@@ -0,0 +1,171 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.cpa.arg;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.SetMultimap;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.core.CPAcheckerResult;
+import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
+import org.sosy_lab.cpachecker.util.test.CPATestRunner;
+import org.sosy_lab.cpachecker.util.test.TestDataTools;
+
+public class ARGEventLogTest {
+
+  private Path logFile;
+
+  @Before
+  public void setUp() throws Exception {
+    logFile = Files.createTempFile("ARGEventLog", ".jsonl");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(logFile);
+  }
+
+  @Test
+  public void testReplayedLogMatchesFinalARG() throws Exception {
+    Configuration config =
+        TestDataTools.configurationForTest()
+            .setOption("cpa", "cpa.arg.ARGCPA")
+            .setOption("ARGCPA.cpa", "cpa.composite.CompositeCPA")
+            .setOption(
+                "CompositeCPA.cpas",
+                "cpa.location.LocationCPA, cpa.callstack.CallstackCPA, cpa.value.ValueAnalysisCPA")
+            .setOption("specification", "config/specification/default.spc")
+            .setOption("cpa.arg.eventLog.file", logFile.toString())
+            .build();
+
+    CPAcheckerResult result =
+        CPATestRunner.run(config, "test/programs/simple/lock-loop.c").getCheckerResult();
+    result.writeOutputFiles(); // closes the log
+
+    ReplayedARG replayed = new ReplayedARG();
+    ObjectMapper mapper = new ObjectMapper();
+    for (String line : Files.readAllLines(logFile, StandardCharsets.UTF_8)) {
+      replayed.apply(mapper.readTree(line));
+    }
+
+    ARGState root = (ARGState) result.getReached().getFirstState();
+    Set<Integer> states = new HashSet<>();
+    SetMultimap<Integer, Integer> children = HashMultimap.create();
+    Map<Integer, Integer> coveredBy = new HashMap<>();
+    for (ARGState state : root.getSubgraph()) {
+      states.add(state.getStateId());
+      for (ARGState child : state.getChildren()) {
+        children.put(state.getStateId(), child.getStateId());
+      }
+      if (state.isCovered()) {
+        coveredBy.put(state.getStateId(), state.getCoveringState().getStateId());
+      }
+    }
+
+    assertThat(replayed.states).isEqualTo(states);
+    assertThat(replayed.children).isEqualTo(children);
+    assertThat(replayed.coveredBy).isEqualTo(coveredBy);
+  }
+
+  @Test
+  public void testEventsAfterCloseAreIgnored() throws Exception {
+    ARGEventLog log = ARGEventLog.open(logFile, LogManager.createTestLogManager());
+    ARGState state = new ARGState(new AbstractState() {}, null);
+    log.logRoot(state);
+    log.close();
+
+    log.logRemoval(state);
+
+    assertThat(Files.readAllLines(logFile, StandardCharsets.UTF_8)).hasSize(1);
+  }
+
+  /** The ARG as described by the events of the log. */
+  private static class ReplayedARG {
+
+    private final Set<Integer> states = new HashSet<>();
+    private final SetMultimap<Integer, Integer> children = HashMultimap.create();
+    private final Map<Integer, Integer> coveredBy = new HashMap<>();
+
+    void apply(JsonNode pEvent) {
+      int id = pEvent.get("id").asInt();
+      switch (pEvent.get("event").asText()) {
+        case "root":
+          states.add(id);
+          break;
+        case "state":
+          states.add(id);
+          children.put(pEvent.get("parent").asInt(), id);
+          break;
+        case "replace":
+          replace(id, pEvent.get("by").asInt());
+          break;
+        case "merge":
+          int into = pEvent.get("into").asInt();
+          replace(pEvent.get("with").asInt(), into);
+          for (int parent : parentsOf(id)) {
+            children.put(parent, into);
+          }
+          break;
+        case "cover":
+          coveredBy.put(id, pEvent.get("by").asInt());
+          break;
+        case "uncover":
+          coveredBy.remove(id);
+          break;
+        case "remove":
+          states.remove(id);
+          for (int parent : parentsOf(id)) {
+            children.remove(parent, id);
+          }
+          children.removeAll(id);
+          coveredBy.remove(id);
+          coveredBy.values().removeIf(covering -> covering == id);
+          break;
+        default:
+          throw new AssertionError("Unexpected event " + pEvent);
+      }
+    }
+
+    private void replace(int pOld, int pNew) {
+      states.remove(pOld);
+      states.add(pNew);
+      for (int parent : parentsOf(pOld)) {
+        children.remove(parent, pOld);
+        children.put(parent, pNew);
+      }
+      children.putAll(pNew, children.removeAll(pOld));
+      coveredBy.replaceAll((covered, covering) -> covering == pOld ? pNew : covering);
+    }
+
+    private ImmutableList<Integer> parentsOf(int pState) {
+      ImmutableList.Builder<Integer> parents = ImmutableList.builder();
+      for (Map.Entry<Integer, Integer> edge : children.entries()) {
+        if (edge.getValue() == pState) {
+          parents.add(edge.getKey());
+        }
+      }
+      return parents.build();
+    }
+  }
+}
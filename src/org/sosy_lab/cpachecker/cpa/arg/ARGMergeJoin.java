@@ -72,16 +72,19 @@ public class ARGMergeJoin implements MergeOperator {
   private final AbstractDomain wrappedDomain;
   private final LogManager logger;
   private final MergeOptions options;
+  private final @Nullable ARGEventLog eventLog;
 
   public ARGMergeJoin(
       MergeOperator pWrappedMerge,
       AbstractDomain pWrappedDomain,
       LogManager pLogger,
-      MergeOptions pOptions) {
+      MergeOptions pOptions,
+      @Nullable ARGEventLog pEventLog) {
     wrappedMerge = pWrappedMerge;
     wrappedDomain = pWrappedDomain;
     logger = checkNotNull(pLogger);
     options = checkNotNull(pOptions);
+    eventLog = pEventLog;
   }
 
   @Override
@@ -187,6 +190,9 @@ public class ARGMergeJoin implements MergeOperator {
     // ARGElement1 will only be removed from ARG if stop(e1, reached) returns true.
     // So we can't actually remove it now, but we need to remember this later.
     argElement1.setMergedWith(mergedElement);
+    if (eventLog != null) {
+      eventLog.logMerge(argElement1, argElement2, mergedElement);
+    }
     return mergedElement;
   }
 
@@ -94,6 +94,7 @@ public class ARGPrecisionAdjustment implements PrecisionAdjustment {
 
     if (!optionalUnwrappedResult.isPresent()) {
       element.removeFromARG();
+      logRemoval(element);
       return Optional.empty();
     }
 
@@ -117,6 +118,10 @@ public class ARGPrecisionAdjustment implements PrecisionAdjustment {
     ARGState resultElement = new ARGState(newElement, null);
 
     element.replaceInARGWith(resultElement); // this completely eliminates element
+    ARGEventLog eventLog = statistics.getEventLog();
+    if (eventLog != null) {
+      eventLog.logReplacement(element, resultElement);
+    }
 
     return Optional.of(PrecisionAdjustmentResult.create(resultElement, newPrecision, action));
   }
@@ -146,6 +151,14 @@ public class ARGPrecisionAdjustment implements PrecisionAdjustment {
 
     for (ARGState sibling : scheduledForDeletion.build()) {
       sibling.removeFromARG();
+      logRemoval(sibling);
+    }
+  }
+
+  private void logRemoval(ARGState pState) {
+    ARGEventLog eventLog = statistics.getEventLog();
+    if (eventLog != null) {
+      eventLog.logRemoval(pState);
     }
   }
 
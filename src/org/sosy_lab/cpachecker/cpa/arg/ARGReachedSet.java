@@ -32,6 +32,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.ConfigurableProgramAnalysis;
 import org.sosy_lab.cpachecker.core.interfaces.Precision;
@@ -146,6 +147,7 @@ public class ARGReachedSet {
       if (!state.isDestroyed()) {
         removeCoverageOf(state);
         state.removeFromARG();
+        logRemoval(state);
       }
     }
     mReached.removeAll(toRemove);
@@ -400,10 +402,22 @@ public class ARGReachedSet {
       }
 
       ae.removeFromARG();
+      logRemoval(ae);
     }
     return toWaitlist;
   }
 
+  private @Nullable ARGEventLog getEventLog() {
+    return cpa instanceof ARGCPA ? ((ARGCPA) cpa).getARGExporter().getEventLog() : null;
+  }
+
+  private void logRemoval(ARGState pState) {
+    ARGEventLog eventLog = getEventLog();
+    if (eventLog != null) {
+      eventLog.logRemoval(pState);
+    }
+  }
+
   /**
    * Remove all covering relations from a node so that this node does not cover any other node
    * anymore. Also adds any now uncovered leaf nodes to the waitlist.
@@ -425,6 +439,10 @@ public class ARGReachedSet {
    */
   private void uncover(ARGState element) {
     element.uncover();
+    ARGEventLog eventLog = getEventLog();
+    if (eventLog != null) {
+      eventLog.logUncoverage(element);
+    }
 
     // this is the subtree of elements which now become uncovered
     for (ARGState e : element.getSubgraph()) {
@@ -471,6 +489,10 @@ public class ARGReachedSet {
 
         if (childOfV.isCovered()) {
           childOfV.uncover();
+          ARGEventLog eventLog = getEventLog();
+          if (eventLog != null) {
+            eventLog.logUncoverage(childOfV);
+          }
         }
       }
 
@@ -38,6 +38,7 @@ import java.util.logging.Level;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.Appender;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.ConfigurationBuilder;
 import org.sosy_lab.common.configuration.FileOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
@@ -73,6 +74,13 @@ import org.sosy_lab.cpachecker.util.cwriter.ARGToCTranslator;
 @Options(prefix = "cpa.arg")
 public class ARGStatistics implements Statistics {
 
+  /**
+   * Options that only the main analysis may use, because the component analyses of parallel,
+   * restarting, or composed analyses would otherwise all write to the same file.
+   */
+  private static final ImmutableSet<String> MAIN_ANALYSIS_ONLY_OPTIONS =
+      ImmutableSet.of("cpa.arg.eventLog.file");
+
   @Option(
       secure = true,
       name = "dumpAfterIteration",
@@ -131,6 +139,19 @@ public class ARGStatistics implements Statistics {
   @FileOption(FileOption.Type.OUTPUT_FILE)
   private Path refinementGraphFile = Path.of("ARGRefinements.dot");
 
+  @Option(
+      secure = true,
+      name = "eventLog.file",
+      description =
+          "write all changes to the ARG (new states, replacements, merges, coverage, removals)"
+              + " into this file while the analysis is running, one JSON object per line. The file"
+              + " is written by a background thread and can be used to rebuild the ARG or watch"
+              + " its construction without waiting for the final export. Component analyses of"
+              + " parallel, restarting, or composed analyses only write it if it is set in their"
+              + " own configuration.")
+  @FileOption(FileOption.Type.OUTPUT_FILE)
+  private Path eventLogFile = null;
+
   @Option(secure = true, name = "translateToC", description = "translate final ARG into C program")
   private boolean translateARG = false;
 
@@ -186,6 +207,7 @@ public class ARGStatistics implements Statistics {
   private final CEXExportOptions counterexampleOptions;
   private Writer refinementGraphUnderlyingWriter = null;
   private ARGToDotWriter refinementGraphWriter = null;
+  private @Nullable ARGEventLog eventLog = null;
   private final @Nullable CEXExporter cexExporter;
   private final WitnessExporter argWitnessExporter;
   private final AssumptionToEdgeAllocator assumptionToEdgeAllocator;
@@ -244,6 +266,29 @@ public class ARGStatistics implements Statistics {
     if (argCFile == null) {
       translateARG = false;
     }
+
+    if (eventLogFile != null) {
+      // we continuously write into this file during analysis
+      try {
+        eventLog = ARGEventLog.open(eventLogFile, logger);
+      } catch (IOException e) {
+        logger.logUserException(Level.WARNING, e, "Could not write ARG event log to file");
+      }
+    }
+  }
+
+  /**
+   * Removes the options that only the main analysis may use from the configuration of a component
+   * analysis. Options that the configuration file of the component sets are still used.
+   */
+  public static void clearComponentOnlyOptions(ConfigurationBuilder pComponentConfig) {
+    for (String option : MAIN_ANALYSIS_ONLY_OPTIONS) {
+      pComponentConfig.clearOption(option);
+    }
+  }
+
+  @Nullable ARGEventLog getEventLog() {
+    return eventLog;
   }
 
   ARGToDotWriter getRefinementGraphWriter() {
@@ -291,6 +336,12 @@ public class ARGStatistics implements Statistics {
 
   @Override
   public void writeOutputFiles(Result pResult, UnmodifiableReachedSet pReached) {
+    if (eventLog != null) {
+      // the analysis is finished, no further events will come
+      eventLog.close();
+      eventLog = null;
+    }
+
     if ((counterexampleOptions.disabledCompletely()
             || counterexampleOptions.dumpErrorPathImmediately())
         && !exportARG
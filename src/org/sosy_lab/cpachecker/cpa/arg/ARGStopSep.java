@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
 import java.util.logging.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
 import org.sosy_lab.cpachecker.core.interfaces.ForcedCoveringStopOperator;
@@ -27,18 +28,21 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
   private final boolean coverTargetStates;
   private final StopOperator wrappedStop;
   private final LogManager logger;
+  private final @Nullable ARGEventLog eventLog;
 
   public ARGStopSep(
       StopOperator pWrappedStop,
       LogManager pLogger,
       boolean pInCPAEnabledAnalysis,
       boolean pKeepCoveredStatesInReached,
-      boolean pCoverTargetStates) {
+      boolean pCoverTargetStates,
+      @Nullable ARGEventLog pEventLog) {
     wrappedStop = pWrappedStop;
     logger = pLogger;
     keepCoveredStatesInReached = pKeepCoveredStatesInReached;
     inCPAEnabledAnalysis = pInCPAEnabledAnalysis;
     coverTargetStates = pCoverTargetStates;
+    eventLog = pEventLog;
   }
 
   @Override
@@ -69,8 +73,14 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
           // merged and covered
           if (inCPAEnabledAnalysis) {
             argElement.setCovered(mergedWith);
+            if (eventLog != null) {
+              eventLog.logCoverage(argElement, mergedWith);
+            }
           } else {
             argElement.removeFromARG();
+            if (eventLog != null) {
+              eventLog.logRemoval(argElement);
+            }
           }
           logger.log(Level.FINEST, "Element is covered by the element it was merged into");
 
@@ -114,6 +124,9 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
           // and if the covered state has no other parents,
           // it should always be safe to remove the covered state:
           argElement.removeFromARG();
+          if (eventLog != null) {
+            eventLog.logRemoval(argElement);
+          }
           return true;
         } else {
           // if this option is true, we always return false here on purpose
@@ -149,6 +162,9 @@ public class ARGStopSep implements StopOperator, ForcedCoveringStopOperator {
 
     if (stop) {
       pElement.setCovered(pReachedState);
+      if (eventLog != null) {
+        eventLog.logCoverage(pElement, pReachedState);
+      }
     }
     return stop;
   }
@@ -23,8 +23,11 @@ import org.sosy_lab.cpachecker.exceptions.UnrecognizedCodeException;
 
 public class ARGTransferRelation extends AbstractSingleWrapperTransferRelation {
 
-  public ARGTransferRelation(TransferRelation tr) {
+  private final @Nullable ARGEventLog eventLog;
+
+  public ARGTransferRelation(TransferRelation tr, @Nullable ARGEventLog pEventLog) {
     super(tr);
+    eventLog = pEventLog;
   }
 
   @Override
@@ -57,6 +60,9 @@ public class ARGTransferRelation extends AbstractSingleWrapperTransferRelation {
     for (AbstractState absElement : successors) {
       ARGState successorElem = new ARGState(absElement, element);
       wrappedSuccessors.add(successorElem);
+      if (eventLog != null) {
+        eventLog.logSuccessor(element, successorElem);
+      }
     }
 
     return wrappedSuccessors.build();
@@ -8,92 +8,172 @@
 
 package org.sosy_lab.cpachecker.cpa.arg.witnessexport.formatter;
 
+import static com.google.common.base.Preconditions.checkState;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
-import javax.xml.parsers.ParserConfigurationException;
+import java.util.Set;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.core.interfaces.Targetable.TargetInformation;
 import org.sosy_lab.cpachecker.cpa.arg.witnessexport.Edge;
 import org.sosy_lab.cpachecker.cpa.arg.witnessexport.Witness;
+import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon;
 import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.ElementType;
-import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.GraphMlBuilder;
+import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.GraphMlWriter;
 import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.KeyDef;
 import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.NodeFlag;
-import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon.NodeType;
 import org.sosy_lab.cpachecker.util.expressions.ExpressionTree;
 import org.sosy_lab.cpachecker.util.expressions.ExpressionTrees;
-import org.w3c.dom.Element;
 
-public class WitnessToGraphMLFormatter extends WitnessToOutputFormatter<Element> {
+/**
+ * Writes a witness as GraphML without building the whole document in memory.
+ *
+ * <p>GraphML needs the definitions of all used keys before the graph, and edges may add data to
+ * their target nodes. Thus the witness graph is traversed twice: the first pass only collects the
+ * used keys and the node data that comes from edges, and the second pass writes every node and
+ * edge directly to the output.
+ */
+public class WitnessToGraphMLFormatter extends WitnessToOutputFormatter<String> {
 
-  private GraphMlBuilder doc;
+  private boolean collecting;
+
+  // results of the first pass
+  private final Set<KeyDef> usedKeys = EnumSet.noneOf(KeyDef.class);
+  private final ListMultimap<String, Map.Entry<KeyDef, String>> nodeDataFromEdges =
+      ArrayListMultimap.create();
+
+  // state of the second pass: the last node is written only when its data is complete
+  private @Nullable GraphMlWriter writer;
+  private @Nullable String pendingNode;
+  private final List<Map.Entry<KeyDef, String>> pendingNodeData = new ArrayList<>();
 
   public WitnessToGraphMLFormatter(Witness pWitness) {
     super(pWitness);
   }
 
+  @Override
+  public void appendTo(Appendable pTarget) throws IOException {
+    usedKeys.clear();
+    nodeDataFromEdges.clear();
+    collecting = true;
+    super.appendTo(pTarget);
+    collecting = false;
+    super.appendTo(pTarget);
+  }
+
   @Override
   protected void initialize(Appendable pTarget) throws IOException {
-    try {
-      doc =
-          new GraphMlBuilder(
-              witness.getWitnessType(),
-              witness.getOriginFile(),
-              witness.getCfa(),
-              witness.getMetaData());
-    } catch (ParserConfigurationException e) {
-      throw new IOException(e);
+    if (collecting) {
+      return;
     }
+    List<Map.Entry<KeyDef, String>> graphData =
+        AutomatonGraphmlCommon.getGraphData(
+            witness.getWitnessType(), witness.getCfa(), witness.getMetaData());
+    usedKeys.add(KeyDef.ORIGINFILE);
+    for (KeyDef keyDef : KeyDef.values()) {
+      if (keyDef.keyFor == ElementType.GRAPH) {
+        usedKeys.add(keyDef);
+      }
+    }
+    for (Map.Entry<KeyDef, String> data : graphData) {
+      usedKeys.add(data.getKey());
+    }
+    writer = new GraphMlWriter(pTarget, usedKeys, witness.getOriginFile(), graphData);
   }
 
   @Override
   protected void finish(Appendable pTarget) throws IOException {
-    doc.appendTo(pTarget);
+    if (collecting) {
+      return;
+    }
+    writePendingNode();
+    writer.finish();
+    writer = null;
+    nodeDataFromEdges.clear();
   }
 
   @Override
-  protected Element createNewNode(String pNodeId, Appendable pTarget) {
-    final Element result = doc.createNodeElement(pNodeId, NodeType.ONPATH);
+  protected String createNewNode(String pNodeId, Appendable pTarget) throws IOException {
+    List<Map.Entry<KeyDef, String>> data = new ArrayList<>();
     if (witness.getWitnessOptions().exportNodeLabel()) {
       // add a printable label that for example is shown in yEd
-      doc.addDataElementChild(result, KeyDef.LABEL, pNodeId);
+      data.add(Maps.immutableEntry(KeyDef.LABEL, pNodeId));
     }
     for (NodeFlag f : witness.getNodeFlags().get(pNodeId)) {
-      doc.addDataElementChild(result, f.key, "true");
+      data.add(Maps.immutableEntry(f.key, "true"));
     }
     for (TargetInformation violation : witness.getViolatedProperties().get(pNodeId)) {
-      doc.addDataElementChild(result, KeyDef.VIOLATEDPROPERTY, violation.toString());
+      data.add(Maps.immutableEntry(KeyDef.VIOLATEDPROPERTY, violation.toString()));
     }
     if (witness.hasQuasiInvariant(pNodeId)) {
       ExpressionTree<Object> tree = witness.getQuasiInvariant(pNodeId);
-      doc.addDataElementChild(result, KeyDef.INVARIANT, tree.toString());
+      data.add(Maps.immutableEntry(KeyDef.INVARIANT, tree.toString()));
     }
-    return result;
+
+    if (collecting) {
+      data.forEach(entry -> usedKeys.add(entry.getKey()));
+    } else {
+      writePendingNode();
+      pendingNode = pNodeId;
+      pendingNodeData.addAll(data);
+    }
+    return pNodeId;
   }
 
   @Override
   protected void createNewEdge(
-      Edge pEdge, Element pSourceNode, Element pTargetNode, Appendable pTarget) {
-    final Element edge = doc.createEdgeElement(pEdge.getSource(), pEdge.getTarget());
+      Edge pEdge, String pSourceNode, String pTargetNode, Appendable pTarget) throws IOException {
+    ImmutableList.Builder<Map.Entry<KeyDef, String>> edgeData = ImmutableList.builder();
     for (Map.Entry<KeyDef, String> entry : pEdge.getLabel().getMapping().entrySet()) {
       KeyDef keyDef = entry.getKey();
-      String value = entry.getValue();
       if (keyDef.keyFor.equals(ElementType.EDGE)) {
-        doc.addDataElementChild(edge, keyDef, value);
-      } else if (keyDef.keyFor.equals(ElementType.NODE)) {
-        doc.addDataElementChild(pTargetNode, keyDef, value);
+        edgeData.add(Maps.immutableEntry(keyDef, entry.getValue()));
+        usedKeys.add(keyDef);
+      } else if (keyDef.keyFor.equals(ElementType.NODE) && collecting) {
+        nodeDataFromEdges.put(pTargetNode, Maps.immutableEntry(keyDef, entry.getValue()));
+        usedKeys.add(keyDef);
       }
     }
+
+    if (!collecting) {
+      writePendingNode();
+      writer.writeEdge(pEdge.getSource(), pEdge.getTarget(), edgeData.build());
+    }
   }
 
   @Override
   protected void addInvariantsData(
-      Element pNode, ExpressionTree<Object> pTree, @Nullable String pScope, Appendable pTarget) {
-    doc.addDataElementChild(pNode, KeyDef.INVARIANT, pTree.toString());
+      String pNode, ExpressionTree<Object> pTree, @Nullable String pScope, Appendable pTarget) {
+    List<Map.Entry<KeyDef, String>> data = new ArrayList<>(2);
+    data.add(Maps.immutableEntry(KeyDef.INVARIANT, pTree.toString()));
     if (!isNullOrEmpty(pScope) && !pTree.equals(ExpressionTrees.getFalse())) {
-      doc.addDataElementChild(pNode, KeyDef.INVARIANTSCOPE, pScope);
+      data.add(Maps.immutableEntry(KeyDef.INVARIANTSCOPE, pScope));
+    }
+
+    if (collecting) {
+      data.forEach(entry -> usedKeys.add(entry.getKey()));
+    } else {
+      // invariants are always added directly after the node was created
+      checkState(pNode.equals(pendingNode));
+      pendingNodeData.addAll(data);
+    }
+  }
+
+  private void writePendingNode() throws IOException {
+    if (pendingNode == null) {
+      return;
     }
+    pendingNodeData.addAll(nodeDataFromEdges.removeAll(pendingNode));
+    writer.writeNode(pendingNode, pendingNodeData);
+    pendingNode = null;
+    pendingNodeData.clear();
   }
 }
@@ -10,6 +10,7 @@ package org.sosy_lab.cpachecker.cpa.invariants;
 
 import java.util.Collection;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import org.sosy_lab.cpachecker.cfa.types.MachineModel;
 import org.sosy_lab.cpachecker.cfa.types.Type;
 
@@ -34,7 +35,10 @@ public enum CompoundBitVectorIntervalManagerFactory implements CompoundIntervalM
   private final Collection<OverflowEventHandler> overflowEventHandlers =
       new CopyOnWriteArrayList<>();
 
+  private final AtomicLong signaledOverflows = new AtomicLong();
+
   private void handleAllOverflowHandlers() {
+    signaledOverflows.incrementAndGet();
     for (OverflowEventHandler component : overflowEventHandlers) {
       component.signedOverflow();
     }
@@ -74,4 +78,13 @@ public enum CompoundBitVectorIntervalManagerFactory implements CompoundIntervalM
   public void removeOverflowEventHandler(OverflowEventHandler pOverflowEventHandler) {
     overflowEventHandlers.remove(pOverflowEventHandler);
   }
+
+  /**
+   * Gets the number of overflows signaled so far by managers of this factory. Callers can compare
+   * this number before and after a computation to determine if the computation signaled an
+   * overflow.
+   */
+  public long getNumberOfSignaledOverflows() {
+    return signaledOverflows.get();
+  }
 }
@@ -39,6 +39,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentSortedMap;
@@ -145,6 +146,13 @@ public class InvariantsState
 
   private ImmutableSet<BooleanFormula<CompoundInterval>> environmentAsAssumptions;
 
+  /**
+   * Memoized results of {@link #definitelyImplies(BooleanFormula)}. The same formulas are checked
+   * against a state many times by the stop and merge operators, and each check copies the whole
+   * environment.
+   */
+  private @Nullable Map<BooleanFormula<CompoundInterval>, Boolean> implicationCache;
+
   private volatile int hash = 0;
 
   /**
@@ -1425,8 +1433,31 @@ public class InvariantsState
   }
 
   public boolean definitelyImplies(BooleanFormula<CompoundInterval> pFormula) {
-    return tools.compoundIntervalFormulaManager.definitelyImplies(
-        assumptions, environment, pFormula, false);
+    Map<BooleanFormula<CompoundInterval>, Boolean> cache = implicationCache;
+    if (cache == null) {
+      cache = new ConcurrentHashMap<>();
+      implicationCache = cache;
+    }
+    Boolean result = cache.get(pFormula);
+    if (result == null) {
+      long overflowsBefore = getNumberOfSignaledOverflows();
+      result =
+          tools.compoundIntervalFormulaManager.definitelyImplies(
+              assumptions, environment, pFormula, false);
+      // an overflow must be signaled again on each check, so such results are not memoized
+      if (overflowsBefore == getNumberOfSignaledOverflows()) {
+        cache.put(pFormula, result);
+      }
+    }
+    return result;
+  }
+
+  private long getNumberOfSignaledOverflows() {
+    if (tools.compoundIntervalManagerFactory instanceof CompoundBitVectorIntervalManagerFactory) {
+      return ((CompoundBitVectorIntervalManagerFactory) tools.compoundIntervalManagerFactory)
+          .getNumberOfSignaledOverflows();
+    }
+    return 0;
   }
 
   public InvariantsState widen(
@@ -14,6 +14,8 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.collect.PathCopyingPersistentTreeMap;
 import org.sosy_lab.common.collect.PersistentSortedMap;
 import org.sosy_lab.cpachecker.cpa.invariants.formula.CollectVarsVisitor;
@@ -37,6 +39,16 @@ public class NonRecursiveEnvironment
 
   private final CompoundIntervalManagerFactory compoundIntervalManagerFactory;
 
+  /**
+   * Memoized values of variables in this environment, per evaluation visitor. Environments are
+   * immutable, so each instance is one version of the environment, and a value that was computed
+   * for it once stays valid for its whole lifetime. Created lazily, because most environments are
+   * short-lived intermediate results.
+   */
+  private volatile @Nullable Map<
+          FormulaEvaluationVisitor<CompoundInterval>, Map<MemoryLocation, CompoundInterval>>
+      valueCache = null;
+
   private NonRecursiveEnvironment(
       CompoundIntervalManagerFactory pCompoundIntervalManagerFactory,
       Map<MemoryLocation, NumeralFormula<CompoundInterval>> pInner) {
@@ -84,6 +96,54 @@ public class NonRecursiveEnvironment
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Gets the value of the given variable in this environment that was previously computed by the
+   * given evaluation visitor, if any.
+   *
+   * @param pEvaluationVisitor the visitor that computed the value.
+   * @param pMemoryLocation the variable.
+   * @return the memoized value, or {@code null} if the value was not computed yet.
+   */
+  public @Nullable CompoundInterval getCachedValue(
+      FormulaEvaluationVisitor<CompoundInterval> pEvaluationVisitor,
+      MemoryLocation pMemoryLocation) {
+    Map<FormulaEvaluationVisitor<CompoundInterval>, Map<MemoryLocation, CompoundInterval>> cache =
+        valueCache;
+    if (cache == null) {
+      return null;
+    }
+    Map<MemoryLocation, CompoundInterval> values = cache.get(pEvaluationVisitor);
+    return values == null ? null : values.get(pMemoryLocation);
+  }
+
+  /**
+   * Memoizes the value of the given variable in this environment as computed by the given
+   * evaluation visitor. The visitor must be deterministic for a given environment.
+   *
+   * @param pEvaluationVisitor the visitor that computed the value.
+   * @param pMemoryLocation the variable.
+   * @param pValue the value of the variable.
+   */
+  public void cacheValue(
+      FormulaEvaluationVisitor<CompoundInterval> pEvaluationVisitor,
+      MemoryLocation pMemoryLocation,
+      CompoundInterval pValue) {
+    Map<FormulaEvaluationVisitor<CompoundInterval>, Map<MemoryLocation, CompoundInterval>> cache =
+        valueCache;
+    if (cache == null) {
+      synchronized (this) {
+        cache = valueCache;
+        if (cache == null) {
+          cache = new ConcurrentHashMap<>(2);
+          valueCache = cache;
+        }
+      }
+    }
+    cache
+        .computeIfAbsent(pEvaluationVisitor, v -> new ConcurrentHashMap<>())
+        .put(pMemoryLocation, pValue);
+  }
+
   @Override
   @Deprecated
   public NumeralFormula<CompoundInterval> remove(Object pKey) {
@@ -14,6 +14,7 @@ import org.sosy_lab.cpachecker.cpa.invariants.CompoundBitVectorIntervalManagerFa
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundInterval;
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundIntervalManager;
 import org.sosy_lab.cpachecker.cpa.invariants.CompoundIntervalManagerFactory;
+import org.sosy_lab.cpachecker.cpa.invariants.NonRecursiveEnvironment;
 import org.sosy_lab.cpachecker.cpa.invariants.TypeInfo;
 import org.sosy_lab.cpachecker.cpa.invariants.Typed;
 import org.sosy_lab.cpachecker.util.states.MemoryLocation;
@@ -296,11 +297,38 @@ public class FormulaCompoundStateEvaluationVisitor
   public CompoundInterval visit(
       Variable<CompoundInterval> pVariable,
       Map<? extends MemoryLocation, ? extends NumeralFormula<CompoundInterval>> pEnvironment) {
-    NumeralFormula<CompoundInterval> varState = pEnvironment.get(pVariable.getMemoryLocation());
+    MemoryLocation memoryLocation = pVariable.getMemoryLocation();
+    NumeralFormula<CompoundInterval> varState = pEnvironment.get(memoryLocation);
     if (varState == null) {
       return getCompoundIntervalManager(pVariable).allPossibleValues();
     }
-    return varState.accept(this, pEnvironment);
+    if (!(pEnvironment instanceof NonRecursiveEnvironment)) {
+      return varState.accept(this, pEnvironment);
+    }
+
+    // Persistent environments never change, so the value of a variable can be memoized
+    NonRecursiveEnvironment environment = (NonRecursiveEnvironment) pEnvironment;
+    CompoundInterval value = environment.getCachedValue(this, memoryLocation);
+    if (value != null) {
+      return value;
+    }
+    long overflowsBefore = getNumberOfSignaledOverflows();
+    value = varState.accept(this, pEnvironment);
+    // Values whose evaluation signaled an overflow are not memoized,
+    // because the overflow needs to be signaled again on each evaluation
+    if (overflowsBefore == getNumberOfSignaledOverflows()) {
+      environment.cacheValue(this, memoryLocation, value);
+    }
+    return value;
+  }
+
+  private long getNumberOfSignaledOverflows() {
+    if (withOverflowEventHandlers
+        && compoundIntervalManagerFactory instanceof CompoundBitVectorIntervalManagerFactory) {
+      return ((CompoundBitVectorIntervalManagerFactory) compoundIntervalManagerFactory)
+          .getNumberOfSignaledOverflows();
+    }
+    return 0;
   }
 
   @Override
@@ -53,9 +53,20 @@ class LiveVariablesState implements LatticeAbstractState<LiveVariablesState>, Gr
   }
 
   boolean isSubsetOf(LiveVariablesState pState2) {
-    BitSet copy = (BitSet) liveVars.clone();
-    copy.or(pState2.liveVars);
-    return copy.equals(pState2.liveVars);
+    BitSet other = pState2.liveVars;
+    if (liveVars == other) {
+      return true;
+    }
+    if (liveVars.length() > other.length() || liveVars.cardinality() > other.cardinality()) {
+      return false;
+    }
+    // check bit by bit instead of computing the union, which would copy the whole bit set
+    for (int i = liveVars.nextSetBit(0); i >= 0; i = liveVars.nextSetBit(i + 1)) {
+      if (!other.get(i)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   boolean contains(int variableIdx) {
@@ -63,9 +74,7 @@ class LiveVariablesState implements LatticeAbstractState<LiveVariablesState>, Gr
   }
 
   boolean containsAny(BitSet data) {
-    BitSet copy = (BitSet) liveVars.clone();
-    copy.and(data);
-    return !copy.isEmpty();
+    return liveVars.intersects(data);
   }
 
   LiveVariablesState removeLiveVariable(int posToRemove) {
@@ -96,11 +105,11 @@ class LiveVariablesState implements LatticeAbstractState<LiveVariablesState>, Gr
 
   @Override
   public LiveVariablesState join(LiveVariablesState pOther) {
-    BitSet copy = (BitSet) liveVars.clone();
-    copy.or(pOther.liveVars);
-    if (copy.equals(pOther.liveVars)) {
+    if (isSubsetOf(pOther)) {
       return pOther;
     }
+    BitSet copy = (BitSet) liveVars.clone();
+    copy.or(pOther.liveVars);
     return ofUnique(copy, manager);
   }
 
@@ -133,6 +142,11 @@ class LiveVariablesState implements LatticeAbstractState<LiveVariablesState>, Gr
     return (BitSet) liveVars.clone();
   }
 
+  /** Adds the live variables of this state to the given bit set without copying them first. */
+  void addDataTo(BitSet pTarget) {
+    pTarget.or(liveVars);
+  }
+
   @Override
   public boolean shouldBeHighlighted() {
     return false;
@@ -246,7 +246,7 @@ public class LiveVariablesTransferRelation
     }
 
     // live variables of multiedges were handled separately.
-    liveVariables.get(edge.getPredecessor()).or(successor.getDataCopy());
+    successor.addDataTo(liveVariables.get(edge.getPredecessor()));
     return Collections.singleton(successor);
   }
 
@@ -549,7 +549,7 @@ public class LiveVariablesTransferRelation
   private boolean isLeftHandSideLive(ALeftHandSide expression) {
     BitSet lhs = new BitSet(noVars);
     handleLeftHandSide(expression, lhs);
-    return isAlwaysLive(expression) || state.containsAny(lhs);
+    return lhs.intersects(addressedOrGlobalVars) || state.containsAny(lhs);
   }
 
   /** Mark all declarations occurring inside the expression as live. */
@@ -578,8 +578,7 @@ public class LiveVariablesTransferRelation
   private boolean isAlwaysLive(ALeftHandSide expression) {
     BitSet lhs = new BitSet(noVars);
     handleLeftHandSide(expression, lhs);
-    lhs.and(addressedOrGlobalVars);
-    return !lhs.isEmpty();
+    return lhs.intersects(addressedOrGlobalVars);
   }
 
   /** Mark all declarations occurring inside the parameters as live. */
@@ -8,8 +8,11 @@
 
 package org.sosy_lab.cpachecker.cpa.octagon;
 
+import java.util.Collections;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -18,6 +21,10 @@ import org.sosy_lab.cpachecker.cfa.CFA;
 import org.sosy_lab.cpachecker.cfa.model.CFANode;
 import org.sosy_lab.cpachecker.core.defaults.AutomaticCPAFactory;
 import org.sosy_lab.cpachecker.core.defaults.StopSepOperator;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedDomain;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedMergeOperator;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedState;
+import org.sosy_lab.cpachecker.core.defaults.packing.PackedTransferRelation;
 import org.sosy_lab.cpachecker.core.defaults.precision.VariableTrackingPrecision;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractDomain;
 import org.sosy_lab.cpachecker.core.interfaces.AbstractState;
@@ -32,6 +39,7 @@ import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.util.octagon.OctagonFloatManager;
 import org.sosy_lab.cpachecker.util.octagon.OctagonIntManager;
 import org.sosy_lab.cpachecker.util.octagon.OctagonManager;
+import org.sosy_lab.cpachecker.util.variableclassification.VariablePacks;
 
 @Options(prefix = "cpa.octagon")
 public final class OctagonCPA implements ConfigurableProgramAnalysis {
@@ -58,6 +66,21 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
       description = "this option determines which initial precision should be used")
   private String precisionType = "STATIC_FULL";
 
+  @Option(
+      secure = true,
+      description =
+          "split the tracked variables into packs of dependent variables (computed from the"
+              + " variable classification) and use a separate octagon for each pack")
+  private boolean usePacking = false;
+
+  @Option(
+      secure = true,
+      description =
+          "maximal number of variables in one pack, larger groups of dependent variables are"
+              + " split into several packs")
+  @IntegerOption(min = 1)
+  private int maxPackSize = 32;
+
   private final AbstractDomain abstractDomain;
   private final TransferRelation transferRelation;
   private final MergeOperator mergeOperator;
@@ -68,6 +91,7 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
   private final ShutdownNotifier shutdownNotifier;
   private final CFA cfa;
   private final OctagonManager octagonManager;
+  private final @Nullable VariablePacks packs;
 
   private OctagonCPA(
       Configuration config, LogManager log, ShutdownNotifier shutdownNotifier, CFA cfa)
@@ -85,10 +109,34 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
       octagonManager = new OctagonIntManager();
     }
 
-    transferRelation = new OctagonTransferRelation(logger, cfa.getLoopStructure().orElseThrow());
-    abstractDomain = octagonDomain;
-    mergeOperator = OctagonMergeOperator.getInstance(octagonDomain, config);
-    stopOperator = new StopSepOperator(octagonDomain);
+    TransferRelation octagonTransferRelation =
+        new OctagonTransferRelation(logger, cfa.getLoopStructure().orElseThrow());
+    MergeOperator octagonMergeOperator = OctagonMergeOperator.getInstance(octagonDomain, config);
+
+    if (usePacking) {
+      if (!cfa.getVarClassification().isPresent()) {
+        throw new InvalidConfigurationException(
+            "Variable classification not available but required for variable packing.");
+      }
+      if (precisionType.equals("REFINEABLE_EMPTY")) {
+        throw new InvalidConfigurationException(
+            "Variable packing cannot be combined with a refinable precision.");
+      }
+      packs =
+          VariablePacks.fromVariableClassification(
+              cfa.getVarClassification().orElseThrow(), maxPackSize);
+      PackedDomain packedDomain = new PackedDomain(octagonDomain);
+      transferRelation = new PackedTransferRelation(octagonTransferRelation, packs);
+      abstractDomain = packedDomain;
+      mergeOperator = PackedMergeOperator.getInstance(octagonMergeOperator);
+      stopOperator = new StopSepOperator(packedDomain);
+    } else {
+      packs = null;
+      transferRelation = octagonTransferRelation;
+      abstractDomain = octagonDomain;
+      mergeOperator = octagonMergeOperator;
+      stopOperator = new StopSepOperator(octagonDomain);
+    }
     this.config = config;
     this.shutdownNotifier = shutdownNotifier;
     this.cfa = cfa;
@@ -134,6 +182,10 @@ public final class OctagonCPA implements ConfigurableProgramAnalysis {
 
   @Override
   public AbstractState getInitialState(CFANode pNode, StateSpacePartition pPartition) {
+    if (packs != null) {
+      return new PackedState(
+          Collections.nCopies(packs.size(), new OctagonState(logger, octagonManager)));
+    }
     return new OctagonState(logger, octagonManager);
   }
 
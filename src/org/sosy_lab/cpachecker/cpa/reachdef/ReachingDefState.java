@@ -179,7 +179,9 @@ public class ReachingDefState
       if (setSub == setSuper) {
         continue;
       }
-      if (setSuper == null || Sets.intersection(setSub, setSuper).size() != setSub.size()) {
+      if (setSuper == null
+          || setSuper.size() < setSub.size()
+          || !setSuper.containsAll(setSub)) {
         return false;
       }
     }
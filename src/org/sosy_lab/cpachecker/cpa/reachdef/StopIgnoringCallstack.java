@@ -8,7 +8,6 @@
 
 package org.sosy_lab.cpachecker.cpa.reachdef;
 
-import com.google.common.collect.Sets;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -49,7 +48,9 @@ public class StopIgnoringCallstack implements StopOperator {
       if (setSub == setSuper) {
         continue;
       }
-      if (setSuper == null || Sets.intersection(setSub, setSuper).size() != setSub.size()) {
+      if (setSuper == null
+          || setSuper.size() < setSub.size()
+          || !setSuper.containsAll(setSub)) {
         return false;
       }
     }
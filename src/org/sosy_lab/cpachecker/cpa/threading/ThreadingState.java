@@ -89,6 +89,9 @@ public class ThreadingState
    */
   private final PersistentMap<String, Integer> threadIdsForWitness;
 
+  // the state is immutable, so its hash code is computed at most once
+  private int hashCache = 0;
+
   public ThreadingState() {
     threads = PathCopyingPersistentTreeMap.of();
     locks = PathCopyingPersistentTreeMap.of();
@@ -230,6 +233,9 @@ public class ThreadingState
       return false;
     }
     ThreadingState ts = (ThreadingState) other;
+    if (hashCache != 0 && ts.hashCache != 0 && hashCache != ts.hashCache) {
+      return false;
+    }
     return threads.equals(ts.threads)
         && locks.equals(ts.locks)
         && Objects.equals(activeThread, ts.activeThread)
@@ -238,7 +244,10 @@ public class ThreadingState
 
   @Override
   public int hashCode() {
-    return Objects.hash(threads, locks, activeThread, threadIdsForWitness);
+    if (hashCache == 0) {
+      hashCache = Objects.hash(threads, locks, activeThread, threadIdsForWitness);
+    }
+    return hashCache;
   }
 
   private FluentIterable<AbstractStateWithLocations> getLocations() {
@@ -17,7 +17,6 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +61,7 @@ import org.sosy_lab.cpachecker.cpa.automaton.AutomatonState;
 import org.sosy_lab.cpachecker.cpa.automaton.AutomatonVariable;
 import org.sosy_lab.cpachecker.cpa.callstack.CallstackCPA;
 import org.sosy_lab.cpachecker.cpa.location.LocationCPA;
+import org.sosy_lab.cpachecker.cpa.location.LocationState;
 import org.sosy_lab.cpachecker.exceptions.CPATransferException;
 import org.sosy_lab.cpachecker.exceptions.UnrecognizedCodeException;
 import org.sosy_lab.cpachecker.exceptions.UnsupportedCodeException;
@@ -106,6 +106,16 @@ public final class ThreadingTransferRelation extends SingleEdgeTransferRelation
       secure = true)
   private boolean useLocalAccessLocks = true;
 
+  @Option(
+      description =
+          "partial-order reduction for interleaved threads. If the next edges of a thread only"
+              + " read and write its own variables, only this thread is explored in the current"
+              + " state, because the other threads can still be interleaved afterwards. Like the"
+              + " local access locks, this assumes that no thread loops forever without accessing"
+              + " global memory.",
+      secure = true)
+  private boolean usePartialOrderReduction = false;
+
   @Option(
       description =
           "in case of witness validation we need to check all possible function calls of cloned"
@@ -178,6 +188,12 @@ public final class ThreadingTransferRelation extends SingleEdgeTransferRelation
       return ImmutableSet.of();
     }
 
+    // check if partial-order reduction allows to avoid exploration of some threads
+    if (usePartialOrderReduction
+        && !isExploredWithPartialOrderReduction(threadingState, activeThread)) {
+      return ImmutableSet.of();
+    }
+
     // check if a local-access-lock allows to avoid exploration of some threads
     if (useLocalAccessLocks) {
       threadingState = handleLocalAccessLock(cfaEdge, threadingState, activeThread);
@@ -214,18 +230,17 @@ public final class ThreadingTransferRelation extends SingleEdgeTransferRelation
    */
   @Nullable
   private String getActiveThread(final CFAEdge cfaEdge, final ThreadingState threadingState) {
-    final Set<String> activeThreads = new HashSet<>();
+    String activeThread = null;
     for (String id : threadingState.getThreadIds()) {
       if (Iterables.contains(threadingState.getThreadLocation(id).getOutgoingEdges(), cfaEdge)) {
-        activeThreads.add(id);
+        assert activeThread == null
+            : "multiple active threads are not allowed: " + activeThread + ", " + id;
+        // then either the same function is called in different threads -> not supported.
+        // (or CompositeCPA and ThreadingCPA do not work together)
+        activeThread = id;
       }
     }
-
-    assert activeThreads.size() <= 1 : "multiple active threads are not allowed: " + activeThreads;
-    // then either the same function is called in different threads -> not supported.
-    // (or CompositeCPA and ThreadingCPA do not work together)
-
-    return activeThreads.isEmpty() ? null : Iterables.getOnlyElement(activeThreads);
+    return activeThread;
   }
 
   /**
@@ -711,6 +726,51 @@ public final class ThreadingTransferRelation extends SingleEdgeTransferRelation
     }
   }
 
+  /**
+   * partial-order reduction for interleaved threads. If there is a thread whose next edges are all
+   * invisible for the other threads, it is sufficient to explore only this thread in the given
+   * state. The thread with the smallest id is chosen, such that the decision is the same for all
+   * edges leaving the given state.
+   *
+   * @return whether the edges of the active thread have to be explored in the given state.
+   */
+  private boolean isExploredWithPartialOrderReduction(
+      final ThreadingState threadingState, String activeThread) {
+    if ((useAtomicLocks && threadingState.hasLock(ATOMIC_LOCK))
+        || (useLocalAccessLocks && threadingState.hasLock(LOCAL_ACCESS_LOCK))) {
+      // only the thread with the lock is explored anyway
+      return true;
+    }
+
+    for (String id : threadingState.getThreadIds()) {
+      if (hasOnlyInvisibleEdges(threadingState.getThreadLocation(id))) {
+        return id.equals(activeThread);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * check whether all outgoing edges of a thread location are invisible for other threads and
+   * whether at least one of them can always be taken. A single assumption might be infeasible and
+   * block the thread, so such a location does not count as invisible.
+   */
+  private boolean hasOnlyInvisibleEdges(LocationState pLocation) {
+    int numEdges = 0;
+    boolean onlyAssumptions = true;
+    for (CFAEdge edge : pLocation.getOutgoingEdges()) {
+      if (globalAccessChecker.hasGlobalAccess(edge)
+          || isImporantForThreading(edge)
+          || isEndOfMainFunction(edge)
+          || isTerminatingEdge(edge)) {
+        return false;
+      }
+      numEdges++;
+      onlyAssumptions &= edge.getEdgeType() == CFAEdgeType.AssumeEdge;
+    }
+    return onlyAssumptions ? numEdges > 1 : numEdges > 0;
+  }
+
   private static boolean isImporantForThreading(CFAEdge cfaEdge) {
     switch (cfaEdge.getEdgeType()) {
       case StatementEdge:
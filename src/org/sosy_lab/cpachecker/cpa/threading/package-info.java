@@ -9,5 +9,11 @@
 /**
  * This CPA allows to analyze concurrent programs. Each abstract state contains the locations and
  * callstacks of all active threadds.
+ *
+ * <p>The analysis explores the interleavings of all threads explicitly, there is no thread-modular
+ * mode with environment summaries. The number of explored interleavings can be reduced with the
+ * options for local access locks and partial-order reduction of {@link
+ * org.sosy_lab.cpachecker.cpa.threading.ThreadingTransferRelation}, which both skip interleavings
+ * of edges that only access thread-local memory.
  */
 package org.sosy_lab.cpachecker.cpa.threading;
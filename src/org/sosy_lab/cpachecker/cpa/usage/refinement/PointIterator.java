@@ -8,8 +8,8 @@
 
 package org.sosy_lab.cpachecker.cpa.usage.refinement;
 
+import com.google.common.collect.ImmutableList;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 import org.sosy_lab.cpachecker.cpa.usage.storage.AbstractUsagePointSet;
 import org.sosy_lab.cpachecker.cpa.usage.storage.UnrefinedUsagePointSet;
@@ -31,8 +31,11 @@ public class PointIterator
   private UsagePoint firstPoint;
   private UsagePoint secondPoint;
 
-  private Iterator<UsagePoint> firstPointIterator;
-  private Iterator<UsagePoint> secondPointIterator;
+  // The top usage points of the current identifier, which are taken once per identifier,
+  // instead of copying the remaining points for every first point of a pair
+  private ImmutableList<UsagePoint> points;
+  private int firstPointIndex;
+  private int secondPointIndex;
 
   private UnrefinedUsagePointSet currentUsagePointSet;
 
@@ -49,10 +52,11 @@ public class PointIterator
     assert pointSet instanceof UnrefinedUsagePointSet;
 
     currentUsagePointSet = (UnrefinedUsagePointSet) pointSet;
-    firstPointIterator = currentUsagePointSet.getPointIterator();
-    secondPointIterator = currentUsagePointSet.getPointIterator();
-    firstPoint = firstPointIterator.next();
-    secondPoint = secondPointIterator.next();
+    points = ImmutableList.copyOf(currentUsagePointSet.getPointIterator());
+    firstPointIndex = 0;
+    secondPointIndex = 0;
+    firstPoint = points.get(firstPointIndex);
+    secondPoint = points.get(secondPointIndex);
     assert firstPoint != null;
     assert secondPoint == firstPoint;
     if (detector.isUnsafePair(firstPoint, secondPoint)) {
@@ -70,22 +74,25 @@ public class PointIterator
     assert currentUsagePointSet == pointSet;
 
     do {
-      if (!secondPointIterator.hasNext()) {
-        if (!firstPointIterator.hasNext()) {
+      if (secondPointIndex + 1 >= points.size()) {
+        if (firstPointIndex + 1 >= points.size()) {
           return null;
         }
-        firstPoint = firstPointIterator.next();
+        firstPointIndex++;
+        firstPoint = points.get(firstPointIndex);
         // Start from first point to save the time
-        secondPointIterator = currentUsagePointSet.getPointIteratorFrom(firstPoint);
-        assert secondPointIterator.hasNext();
+        secondPointIndex = firstPointIndex;
+      } else {
+        secondPointIndex++;
       }
-      secondPoint = secondPointIterator.next();
+      secondPoint = points.get(secondPointIndex);
 
       assert firstPoint != null && secondPoint != null;
 
-    } while (!detector.isUnsafePair(firstPoint, secondPoint)
-        || toRemove.contains(firstPoint)
-        || toRemove.contains(secondPoint));
+      // check the removed points first, as it is much cheaper than the unsafe check
+    } while (toRemove.contains(firstPoint)
+        || toRemove.contains(secondPoint)
+        || !detector.isUnsafePair(firstPoint, secondPoint));
 
     Pair<UsageInfoSet, UsageInfoSet> resultingPair = prepareIterationPair(firstPoint, secondPoint);
     if (firstPoint == secondPoint) {
@@ -143,8 +150,7 @@ public class PointIterator
   @Override
   protected void handleFinishSignal(Class<? extends RefinementInterface> pCallerClass) {
     if (pCallerClass.equals(IdentifierIterator.class)) {
-      firstPointIterator = null;
-      secondPointIterator = null;
+      points = null;
       firstPoint = null;
       secondPoint = null;
     }
@@ -107,15 +107,14 @@ public class PredicateRefinerAdapter extends GenericSinglePathRefiner {
   public RefinementResult call(ExtendedARGPath pInput) throws CPAException, InterruptedException {
     RefinementResult result;
 
-    Set<CFAEdge> currentPath = new HashSet<>(pInput.getInnerEdges());
+    Set<CFAEdge> edgeSet = new HashSet<>(pInput.getInnerEdges());
 
-    if (trueCache.contains(currentPath)) {
+    if (trueCache.contains(edgeSet)) {
       // Somewhen we have already refined this path as true
       result = RefinementResult.createTrue();
     } else {
-      Set<CFAEdge> edgeSet = new HashSet<>(currentPath);
-      if (falseCache.containsKey(edgeSet)) {
-        PredicatePrecision previousPreds = falseCache.get(edgeSet);
+      PredicatePrecision previousPreds = falseCache.get(edgeSet);
+      if (previousPreds != null) {
         Precision currentPrecision = getCurrentPrecision();
         PredicatePrecision currentPreds =
             Precisions.extractPrecisionByType(currentPrecision, PredicatePrecision.class);
@@ -129,7 +128,7 @@ public class PredicateRefinerAdapter extends GenericSinglePathRefiner {
             result = RefinementResult.createTrue();
             potentialLoopTraces.remove(edgeSet);
           } else {
-            result = performPredicateRefinement(pInput);
+            result = performPredicateRefinement(pInput, edgeSet);
             logger.log(Level.WARNING, "Path is repeated, hope BAM can handle it itself");
             // BAM can refine with updated predicate refiner, congratulate him.
             numberOfBAMupdates.inc();
@@ -138,7 +137,7 @@ public class PredicateRefinerAdapter extends GenericSinglePathRefiner {
         } else {
           // rerefine it to obtain new states
           logger.log(Level.WARNING, "Path is repeated, but predicates are missed");
-          result = performPredicateRefinement(pInput);
+          result = performPredicateRefinement(pInput, edgeSet);
           // We expect the same result
           // but in case of loop the transformation path -> set is not correct, so, there can be a
           // true result
@@ -157,20 +156,20 @@ public class PredicateRefinerAdapter extends GenericSinglePathRefiner {
               subtreesRemover.addStateForRemoving(state);
             }
           }*/
-          result = performPredicateRefinement(pInput);
+          result = performPredicateRefinement(pInput, edgeSet);
         }
       }
     }
     return result;
   }
 
-  private RefinementResult performPredicateRefinement(ExtendedARGPath path)
+  private RefinementResult performPredicateRefinement(
+      ExtendedARGPath path, Set<CFAEdge> edgeSet)
       throws CPAException, InterruptedException {
     RefinementResult result;
     try {
       numberOfrefinedPaths.inc();
       CounterexampleInfo cex = refiner.performRefinementForPath(ARGReached, path);
-      Set<CFAEdge> edgeSet = new HashSet<>(path.getInnerEdges());
 
       if (!cex.isSpurious()) {
         trueCache.add(edgeSet);
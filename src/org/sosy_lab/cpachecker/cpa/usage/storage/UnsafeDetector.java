@@ -10,10 +10,18 @@ package org.sosy_lab.cpachecker.cpa.usage.storage;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.cpachecker.cpa.lock.DeadLockState.DeadLockTreeNode;
 import org.sosy_lab.cpachecker.cpa.lock.LockIdentifier;
+import org.sosy_lab.cpachecker.cpa.lock.LockState.LockTreeNode;
 import org.sosy_lab.cpachecker.cpa.usage.UsageInfo;
 import org.sosy_lab.cpachecker.cpa.usage.UsageInfo.Access;
 import org.sosy_lab.cpachecker.util.Pair;
@@ -75,30 +83,16 @@ public class UnsafeDetector {
   }
 
   private boolean isUnsafe(NavigableSet<UsagePoint> points) {
-    for (UsagePoint point1 : points) {
-      for (UsagePoint point2 : points.tailSet(point1)) {
-        if (isUnsafePair(point1, point2)) {
-          return true;
-        }
-      }
-    }
-    return false;
+    return findUnsafePair(points, true) != null;
   }
 
   private Pair<UsagePoint, UsagePoint> getUnsafePair(NavigableSet<UsagePoint> set) {
-
-    for (UsagePoint point1 : set) {
-      for (UsagePoint point2 : set.tailSet(point1)) {
-        if (point1.equals(point2)) {
-          /* There can be an unsafe even with only one usage,
-           * but at first we find two different usages
-           */
-          continue;
-        }
-        if (isUnsafePair(point1, point2)) {
-          return Pair.of(point1, point2);
-        }
-      }
+    /* There can be an unsafe even with only one usage,
+     * but at first we find two different usages
+     */
+    Pair<UsagePoint, UsagePoint> result = findUnsafePair(set, false);
+    if (result != null) {
+      return result;
     }
     // Now we find an unsafe only from one usage
     if (!config.ignoreEmptyLockset()) {
@@ -112,7 +106,77 @@ public class UnsafeDetector {
     return null;
   }
 
+  /**
+   * Searches for an unsafe pair among the given points.
+   *
+   * <p>Two usage points that hold a common lock are never compatible, so the points are grouped by
+   * their locksets first, and only pairs from groups with disjoint locksets are compared. The
+   * locksets are encoded as bit sets, so for many usages with the same few locks the disjointness
+   * is checked once per pair of groups instead of once per pair of usages.
+   *
+   * @param points the usage points, sorted by their natural order
+   * @param pAllowIdenticalPoints whether a point may form an unsafe pair with itself
+   * @return an unsafe pair, with the smaller point first, or {@code null} if there is none
+   */
+  private @Nullable Pair<UsagePoint, UsagePoint> findUnsafePair(
+      NavigableSet<UsagePoint> points, boolean pAllowIdenticalPoints) {
+    Map<BitSet, List<UsagePoint>> groupsByLockset = groupByLockset(points);
+    List<BitSet> locksets = new ArrayList<>(groupsByLockset.keySet());
+    List<List<UsagePoint>> groups = new ArrayList<>(groupsByLockset.values());
+
+    for (int i = 0; i < groups.size(); i++) {
+      List<UsagePoint> group1 = groups.get(i);
+      for (int j = i; j < groups.size(); j++) {
+        if (locksets.get(i).intersects(locksets.get(j))) {
+          continue;
+        }
+        List<UsagePoint> group2 = groups.get(j);
+        for (int k = 0; k < group1.size(); k++) {
+          UsagePoint point1 = group1.get(k);
+          for (int l = (i == j ? k : 0); l < group2.size(); l++) {
+            UsagePoint point2 = group2.get(l);
+            if (point1 == point2 && !pAllowIdenticalPoints) {
+              continue;
+            }
+            // The check may be asymmetric, so keep the order of the points
+            Pair<UsagePoint, UsagePoint> pair =
+                point1.compareTo(point2) <= 0 ? Pair.of(point1, point2) : Pair.of(point2, point1);
+            if (isUnsafePair(pair.getFirst(), pair.getSecond())) {
+              return pair;
+            }
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Map<BitSet, List<UsagePoint>> groupByLockset(Iterable<UsagePoint> points) {
+    Map<LockIdentifier, Integer> lockNumbers = new HashMap<>();
+    Map<BitSet, List<UsagePoint>> groups = new LinkedHashMap<>();
+    for (UsagePoint point : points) {
+      BitSet lockset = new BitSet();
+      LockTreeNode locks = point.get(LockTreeNode.class);
+      if (locks != null) {
+        for (LockIdentifier lock : locks) {
+          Integer number = lockNumbers.get(lock);
+          if (number == null) {
+            number = lockNumbers.size();
+            lockNumbers.put(lock, number);
+          }
+          lockset.set(number);
+        }
+      }
+      groups.computeIfAbsent(lockset, k -> new ArrayList<>()).add(point);
+    }
+    return groups;
+  }
+
   public boolean isUnsafePair(UsagePoint point1, UsagePoint point2) {
+    if (config.getUnsafeMode() == UnsafeMode.RACE && !isRace(point1, point2)) {
+      // cheap check, avoids comparing the compatible nodes
+      return false;
+    }
     if (point1.isCompatible(point2)) {
       switch (config.getUnsafeMode()) {
         case RACE:
@@ -53,6 +53,7 @@ import org.sosy_lab.common.configuration.AnnotatedValue;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.ConfigurationBuilder;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -78,9 +79,11 @@ import org.sosy_lab.cpachecker.core.reachedset.HistoryForwardingReachedSet;
 import org.sosy_lab.cpachecker.core.reachedset.ReachedSet;
 import org.sosy_lab.cpachecker.core.reachedset.UnmodifiableReachedSet;
 import org.sosy_lab.cpachecker.core.specification.Specification;
+import org.sosy_lab.cpachecker.cpa.arg.ARGStatistics;
 import org.sosy_lab.cpachecker.exceptions.CPAException;
 import org.sosy_lab.cpachecker.exceptions.CounterexampleAnalysisFailed;
 import org.sosy_lab.cpachecker.exceptions.RefinementFailedException;
+import org.sosy_lab.cpachecker.intelligence.learn.sample.FeatureCache;
 import org.sosy_lab.cpachecker.intelligence.learn.sample.FeatureRegistry;
 import org.sosy_lab.cpachecker.intelligence.learn.sample.SampleRegistry;
 import org.sosy_lab.cpachecker.intelligence.learn.sample.backend.ISampleBackend;
@@ -255,6 +258,29 @@ public class IntelligentRestartAlgorithm implements Algorithm, StatisticsProvide
   )
   private int iterationBound = 2;
 
+  @Option(
+      secure = true,
+      description = "number of threads that relabel the program graph in each WL iteration"
+  )
+  @IntegerOption(min = 1)
+  private int featureThreads = 1;
+
+  @Option(
+      secure = true,
+      description = "directory in which the program features are kept between runs, "
+          + "such that known programs do not need to be converted into a graph again"
+  )
+  @FileOption(FileOption.Type.OUTPUT_DIRECTORY)
+  private Path featureCache = null;
+
+  @Option(
+      secure = true,
+      description = "maximum number of programs whose features are kept in the feature cache, "
+          + "the least recently used programs are removed first"
+  )
+  @IntegerOption(min = 1)
+  private int featureCacheSize = 1000;
+
   private final LogManager logger;
   private final ShutdownNotifier shutdownNotifier;
   private final ShutdownManager predictionShutdown;
@@ -314,8 +340,11 @@ public class IntelligentRestartAlgorithm implements Algorithm, StatisticsProvide
     }
 
     SampleRegistry sampleRegistry = new SampleRegistry(
-        registry, iterationBound, 5, backend, accelerated
+        registry, iterationBound, 5, backend, accelerated, featureThreads
     );
+    if (featureCache != null) {
+      sampleRegistry.setFeatureCache(new FeatureCache(featureCache, featureCacheSize, logger));
+    }
 
     this.oracleImpl = OracleFactory.getInstance().create(
         this.oracle, logger, config,
@@ -651,6 +680,7 @@ public class IntelligentRestartAlgorithm implements Algorithm, StatisticsProvide
     singleConfigBuilder.clearOption("intelligentRestartAlgorithm.configFiles");
     singleConfigBuilder.clearOption("intelligentRestartAlgorithm.oracle");
     singleConfigBuilder.clearOption("analysis.restartIntelligentAfterUnknown");
+    ARGStatistics.clearComponentOnlyOptions(singleConfigBuilder);
     singleConfigBuilder.loadFromFile(singleConfigFileName);
 
     Configuration singleConfig = singleConfigBuilder.build();
@@ -23,142 +23,95 @@
  */
 package org.sosy_lab.cpachecker.intelligence.graph.analysis;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import org.sosy_lab.cpachecker.intelligence.graph.model.GEdge;
+import org.sosy_lab.cpachecker.intelligence.graph.model.IndexedGraph;
 import org.sosy_lab.cpachecker.intelligence.graph.model.StructureGraph;
 
 public class SCCUtil {
 
   private StructureGraph graph;
 
-  private ArrayDeque<SCCNode> stack;
-  private Map<String, SCCNode> nodeMap = new HashMap<>();
-  private int pubIndex = 0;
-
   private List<SCC> sccs;
 
   public SCCUtil(StructureGraph pGraph) {
     graph = pGraph;
   }
 
-  private SCCNode getNode(String id){
-    if(!nodeMap.containsKey(id)){
-      nodeMap.put(id, new SCCNode(id));
-    }
-    return nodeMap.get(id);
-  }
-
   public List<SCC> getStronglyConnectedComponents(){
     if(sccs != null)return sccs;
 
     sccs = new ArrayList<>();
-    stack = new ArrayDeque<>();
-
-
-    for(String vId: graph.nodes()) {
-      SCCNode node = getNode(vId);
-      if(node.index == -1) {
-        strongconnected(node);
-      }
-    }
-
-    return sccs;
-  }
 
-  private void strongconnected(SCCNode pSCCNode){
-
-    ArrayDeque<SCCNode> strong = new ArrayDeque<>();
-    strong.push(pSCCNode);
-
-    while (!strong.isEmpty()) {
-      SCCNode sccNode = strong.peekFirst();
-
-      if(sccNode.index == -1) {
-        sccNode.index = pubIndex;
-        sccNode.lowlink = pubIndex;
-        pubIndex++;
-        stack.addFirst(sccNode);
-        sccNode.onStack = true;
-        sccNode.open = graph.getOutgoing(sccNode.nodeId).iterator();
-      }
-
-      while (sccNode.open.hasNext()){
-          SCCNode w = getNode(sccNode.open.next().getSink().getId());
-          if (w.index == -1){
-            sccNode.waitOn = w.nodeId;
-            strong.addFirst(w);
-            break;
-          }else if(w.onStack){
-            sccNode.lowlink = Math.min(sccNode.lowlink, w.index);
-          }
-      }
-
-      if(!strong.peekFirst().equals(sccNode))
+    IndexedGraph indexed = IndexedGraph.of(graph);
+    int size = indexed.size();
+
+    // Tarjan's algorithm without recursion: for every node on the call stack we remember
+    // the position of the next outgoing edge that has to be visited
+    int[] index = new int[size];
+    Arrays.fill(index, -1);
+    int[] lowlink = new int[size];
+    boolean[] onStack = new boolean[size];
+    int[] stack = new int[size];
+    int stackSize = 0;
+    int[] callStack = new int[size];
+    int[] nextEdge = new int[size];
+    int pubIndex = 0;
+
+    for(int root = 0; root < size; root++) {
+      if(index[root] != -1) {
         continue;
-
-      //Finish node
-      strong.pop();
-
-      if(!strong.isEmpty() && sccNode.nodeId.equals(strong.peek().waitOn)){
-        strong.peekFirst().lowlink = Math.min(strong.peek().lowlink, sccNode.lowlink);
-        strong.peekFirst().waitOn = null;
       }
 
-      if(sccNode.lowlink == sccNode.index){
-        sccs.add(new SCC());
-        while (!stack.isEmpty()){
-          SCCNode w = stack.removeFirst();
-          w.onStack = false;
-          sccs.get(sccs.size() - 1).nodes.add(w.nodeId);
-          if(w.equals(sccNode))break;
+      int depth = 0;
+      callStack[depth] = root;
+      nextEdge[depth] = 0;
+      index[root] = lowlink[root] = pubIndex++;
+      stack[stackSize++] = root;
+      onStack[root] = true;
+
+      while (depth >= 0) {
+        int v = callStack[depth];
+
+        if(nextEdge[depth] < indexed.getOutDegree(v)){
+          int w = indexed.getSuccessor(v, nextEdge[depth]++);
+          if(index[w] == -1){
+            depth++;
+            callStack[depth] = w;
+            nextEdge[depth] = 0;
+            index[w] = lowlink[w] = pubIndex++;
+            stack[stackSize++] = w;
+            onStack[w] = true;
+          }else if(onStack[w]){
+            lowlink[v] = Math.min(lowlink[v], index[w]);
+          }
+          continue;
         }
-      }
-
-
-    }
 
+        //Finish node
+        depth--;
+        if(depth >= 0){
+          int parent = callStack[depth];
+          lowlink[parent] = Math.min(lowlink[parent], lowlink[v]);
+        }
 
-  }
-
-  private static class SCCNode{
-
-    @Override
-    public boolean equals(Object pO) {
-      if (this == pO) {
-        return true;
-      }
-      if (pO == null || getClass() != pO.getClass()) {
-        return false;
+        if(lowlink[v] == index[v]){
+          SCC scc = new SCC();
+          int w;
+          do {
+            w = stack[--stackSize];
+            onStack[w] = false;
+            scc.nodes.add(indexed.getNodeId(w));
+          } while (w != v);
+          sccs.add(scc);
+        }
       }
-      SCCNode sccNode = (SCCNode) pO;
-      return Objects.equals(nodeId, sccNode.nodeId);
-    }
-
-    @Override
-    public int hashCode() {
-      return Objects.hash(nodeId);
     }
 
-    String nodeId;
-    int lowlink;
-    int index = -1;
-    boolean onStack = false;
-    String waitOn;
-    Iterator<GEdge> open;
-
-    public SCCNode(String pNodeId) {
-      nodeId = pNodeId;
-    }
-
-
+    return sccs;
   }
 
   public static class SCC{
@@ -0,0 +1,151 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.intelligence.graph.analysis;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.sosy_lab.cpachecker.intelligence.graph.analysis.SCCUtil.SCC;
+import org.sosy_lab.cpachecker.intelligence.graph.model.GEdge;
+import org.sosy_lab.cpachecker.intelligence.graph.model.StructureGraph;
+
+public class SCCUtilTest {
+
+  private static final String EDGE = "edge";
+
+  @Test
+  public void testSelfLoop() {
+    StructureGraph graph = graph(3);
+    graph.addEdge("0", "0", EDGE);
+    graph.addEdge("0", "1", EDGE);
+    graph.addEdge("2", "2", EDGE);
+
+    assertThat(components(graph))
+        .containsExactly(ImmutableSet.of("0"), ImmutableSet.of("1"), ImmutableSet.of("2"));
+  }
+
+  @Test
+  public void testNestedCycles() {
+    // 0 -> 1 -> 2 -> 0 with an inner cycle 1 -> 3 -> 1, and 2 -> 4 leaving the component
+    StructureGraph graph = graph(5);
+    graph.addEdge("0", "1", EDGE);
+    graph.addEdge("1", "2", EDGE);
+    graph.addEdge("2", "0", EDGE);
+    graph.addEdge("1", "3", EDGE);
+    graph.addEdge("3", "1", EDGE);
+    graph.addEdge("2", "4", EDGE);
+
+    assertThat(components(graph))
+        .containsExactly(ImmutableSet.of("0", "1", "2", "3"), ImmutableSet.of("4"));
+  }
+
+  @Test
+  public void testDisconnectedRoots() {
+    StructureGraph graph = graph(6);
+    graph.addEdge("0", "1", EDGE);
+    graph.addEdge("1", "0", EDGE);
+    graph.addEdge("2", "3", EDGE);
+    graph.addEdge("4", "5", EDGE);
+    graph.addEdge("5", "4", EDGE);
+    graph.addEdge("4", "3", EDGE);
+
+    assertThat(components(graph))
+        .containsExactly(
+            ImmutableSet.of("0", "1"),
+            ImmutableSet.of("2"),
+            ImmutableSet.of("3"),
+            ImmutableSet.of("4", "5"));
+  }
+
+  @Test
+  public void testLongChain() {
+    // deep enough to overflow the call stack of a recursive implementation
+    int size = 100_000;
+    StructureGraph graph = graph(size);
+    for (int i = 0; i + 1 < size; i++) {
+      graph.addEdge(Integer.toString(i), Integer.toString(i + 1), EDGE);
+    }
+
+    assertThat(new SCCUtil(graph).getStronglyConnectedComponents()).hasSize(size);
+
+    graph.addEdge(Integer.toString(size - 1), "0", EDGE);
+    Set<Set<String>> components = components(graph);
+    assertThat(components).hasSize(1);
+    assertThat(components.iterator().next()).hasSize(size);
+  }
+
+  @Test
+  public void testRandomGraphs() {
+    Random random = new Random(0);
+    for (int round = 0; round < 50; round++) {
+      int size = 1 + random.nextInt(30);
+      StructureGraph graph = graph(size);
+      int edges = random.nextInt(2 * size);
+      for (int i = 0; i < edges; i++) {
+        graph.addEdge(
+            Integer.toString(random.nextInt(size)), Integer.toString(random.nextInt(size)), EDGE);
+      }
+
+      assertThat(components(graph)).isEqualTo(componentsByReachability(graph));
+    }
+  }
+
+  private static StructureGraph graph(int pSize) {
+    StructureGraph graph = new StructureGraph();
+    for (int i = 0; i < pSize; i++) {
+      graph.addNode(Integer.toString(i));
+    }
+    return graph;
+  }
+
+  private static Set<Set<String>> components(StructureGraph pGraph) {
+    Set<Set<String>> result = new HashSet<>();
+    for (SCC scc : new SCCUtil(pGraph).getStronglyConnectedComponents()) {
+      assertThat(result.add(ImmutableSet.copyOf(scc.getNodes()))).isTrue();
+    }
+    return result;
+  }
+
+  /** Computes the components naively: two nodes are in one component if they reach each other. */
+  private static Set<Set<String>> componentsByReachability(StructureGraph pGraph) {
+    Set<Set<String>> result = new HashSet<>();
+    for (String node : pGraph.nodes()) {
+      ImmutableSet.Builder<String> component = ImmutableSet.builder();
+      for (String other : reachable(pGraph, node)) {
+        if (reachable(pGraph, other).contains(node)) {
+          component.add(other);
+        }
+      }
+      component.add(node);
+      result.add(component.build());
+    }
+    return result;
+  }
+
+  private static Set<String> reachable(StructureGraph pGraph, String pStart) {
+    Set<String> reached = new HashSet<>();
+    Queue<String> waitlist = new ArrayDeque<>();
+    reached.add(pStart);
+    waitlist.add(pStart);
+    while (!waitlist.isEmpty()) {
+      for (GEdge edge : pGraph.getOutgoing(waitlist.remove())) {
+        if (reached.add(edge.getSink().getId())) {
+          waitlist.add(edge.getSink().getId());
+        }
+      }
+    }
+    return reached;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ *  CPAchecker is a tool for configurable software verification.
+ *  This file is part of CPAchecker.
+ *
+ *  Copyright (C) 2007-2019  Dirk Beyer
+ *  All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ *  CPAchecker web page:
+ *    http://cpachecker.sosy-lab.org
+ */
+package org.sosy_lab.cpachecker.intelligence.graph.model;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Immutable snapshot of a {@link StructureGraph} with integer node ids.
+ *
+ * <p>Nodes are numbered from 0 to {@link #size()} - 1. The outgoing edges are stored in compressed
+ * sparse row form: the edges of node {@code i} occupy the positions {@code offsets[i]} to {@code
+ * offsets[i + 1] - 1} of the target and type arrays. Edge types and node labels are kept in side
+ * tables, so analyses that only walk the graph do not touch any string or map.
+ */
+public final class IndexedGraph {
+
+  private final ImmutableList<String> nodeIds;
+  private final ImmutableList<String> labels;
+  private final ImmutableMap<String, Integer> indexOfNode;
+  private final ImmutableList<String> edgeTypes;
+
+  private final int[] offsets;
+  private final int[] targets;
+  private final int[] types;
+
+  private IndexedGraph(
+      ImmutableList<String> pNodeIds,
+      ImmutableList<String> pLabels,
+      ImmutableMap<String, Integer> pIndexOfNode,
+      ImmutableList<String> pEdgeTypes,
+      int[] pOffsets,
+      int[] pTargets,
+      int[] pTypes) {
+    nodeIds = pNodeIds;
+    labels = pLabels;
+    indexOfNode = pIndexOfNode;
+    edgeTypes = pEdgeTypes;
+    offsets = pOffsets;
+    targets = pTargets;
+    types = pTypes;
+  }
+
+  /** Creates a snapshot of the current nodes and edges of the given graph. */
+  public static IndexedGraph of(StructureGraph pGraph) {
+    ImmutableList<String> nodeIds = ImmutableList.copyOf(pGraph.nodes());
+    ImmutableMap.Builder<String, Integer> indexOfNode =
+        ImmutableMap.builderWithExpectedSize(nodeIds.size());
+    ImmutableList.Builder<String> labels = ImmutableList.builderWithExpectedSize(nodeIds.size());
+    int edgeCount = 0;
+    for (int i = 0; i < nodeIds.size(); i++) {
+      GNode node = pGraph.getNode(nodeIds.get(i));
+      indexOfNode.put(node.getId(), i);
+      labels.add(node.getLabel());
+      for (Map<String, GEdge> edges : node.out.values()) {
+        edgeCount += edges.size();
+      }
+    }
+    ImmutableMap<String, Integer> index = indexOfNode.buildOrThrow();
+
+    Map<String, Integer> typeIndex = new HashMap<>();
+    ImmutableList.Builder<String> edgeTypes = ImmutableList.builder();
+    int[] offsets = new int[nodeIds.size() + 1];
+    int[] targets = new int[edgeCount];
+    int[] types = new int[edgeCount];
+    int pos = 0;
+    for (int i = 0; i < nodeIds.size(); i++) {
+      offsets[i] = pos;
+      for (Entry<String, Map<String, GEdge>> edges :
+          pGraph.getNode(nodeIds.get(i)).out.entrySet()) {
+        Integer type = typeIndex.get(edges.getKey());
+        if (type == null) {
+          type = typeIndex.size();
+          typeIndex.put(edges.getKey(), type);
+          edgeTypes.add(edges.getKey());
+        }
+        for (String sink : edges.getValue().keySet()) {
+          targets[pos] = index.get(sink);
+          types[pos] = type;
+          pos++;
+        }
+      }
+    }
+    offsets[nodeIds.size()] = pos;
+
+    return new IndexedGraph(
+        nodeIds, labels.build(), index, edgeTypes.build(), offsets, targets, types);
+  }
+
+  /** Returns the number of nodes. */
+  public int size() {
+    return nodeIds.size();
+  }
+
+  /** Returns the integer id of the node with the given id, or -1 if there is no such node. */
+  public int getIndex(String pNodeId) {
+    return indexOfNode.getOrDefault(pNodeId, -1);
+  }
+
+  public String getNodeId(int pNode) {
+    return nodeIds.get(pNode);
+  }
+
+  public String getLabel(int pNode) {
+    return labels.get(pNode);
+  }
+
+  public int getOutDegree(int pNode) {
+    return offsets[pNode + 1] - offsets[pNode];
+  }
+
+  /** Returns the target of the {@code pEdge}-th outgoing edge of the given node. */
+  public int getSuccessor(int pNode, int pEdge) {
+    return targets[offsets[pNode] + pEdge];
+  }
+
+  /** Returns the type of the {@code pEdge}-th outgoing edge of the given node. */
+  public String getEdgeType(int pNode, int pEdge) {
+    return edgeTypes.get(types[offsets[pNode] + pEdge]);
+  }
+}
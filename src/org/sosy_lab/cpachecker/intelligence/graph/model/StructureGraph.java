@@ -24,6 +24,8 @@
 package org.sosy_lab.cpachecker.intelligence.graph.model;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 import com.google.common.collect.Table;
 import com.google.common.collect.Table.Cell;
 import java.util.Collection;
@@ -73,10 +75,7 @@ public class StructureGraph {
     }
 
     private void add(Map<String, Map<String, GEdge>> map, String id, GEdge pGEdge){
-      if(!map.containsKey(pGEdge.getId())){
-        map.put(pGEdge.getId(), new HashMap<>());
-      }
-      map.get(pGEdge.getId()).put(id, pGEdge);
+      map.computeIfAbsent(pGEdge.getId(), k -> new HashMap<>()).put(id, pGEdge);
     }
 
     protected boolean addEdge(GEdge e){
@@ -87,7 +86,8 @@ public class StructureGraph {
       if(!nodes.containsKey(e.getSource().getId()))return false;
       if(!nodes.containsKey(e.getSink().getId()))return false;
 
-      if(e.getSource().out.containsKey(e.getId()) && e.getSource().out.get(e.getId()).containsKey(e.getSink().getId())) return false;
+      Map<String, GEdge> out = e.getSource().out.get(e.getId());
+      if(out != null && out.containsKey(e.getSink().getId())) return false;
       add(e.getSource().out, e.getSink().getId(), e);
       add(e.getSink().in, e.getSource().getId(), e);
 
@@ -112,84 +112,110 @@ public class StructureGraph {
     }
 
     public Stream<GEdge> getIngoingStream(String target){
-      if(!nodes.containsKey(target))
+      GNode node = nodes.get(target);
+      if(node == null)
         return Stream.empty();
-      return nodes.get(target).in.values().stream()
+      return node.in.values().stream()
             .map(m -> m.values()).flatMap(Collection::stream);
     }
 
     public Set<GEdge> getIngoing(String target) {
-      return getIngoingStream(target).collect(Collectors.toSet());
+      GNode node = nodes.get(target);
+      if(node == null)
+        return new HashSet<>();
+      return collectEdges(node.in);
     }
 
     public Stream<GEdge> getOutgoingStream(String source){
-      if(!nodes.containsKey(source))
+      GNode node = nodes.get(source);
+      if(node == null)
         return Stream.empty();
-      return nodes.get(source).out.values()
+      return node.out.values()
           .stream().map(m -> m.values()).flatMap(Collection::stream);
     }
 
     public Set<GEdge> getOutgoing(String source){
-      return getOutgoingStream(source).collect(Collectors.toSet());
+      GNode node = nodes.get(source);
+      if(node == null)
+        return new HashSet<>();
+      return collectEdges(node.out);
+    }
+
+    private static Set<GEdge> collectEdges(Map<String, Map<String, GEdge>> edgesByType){
+      int size = 0;
+      for(Map<String, GEdge> edges : edgesByType.values()){
+        size += edges.size();
+      }
+      Set<GEdge> result = Sets.newHashSetWithExpectedSize(size);
+      for(Map<String, GEdge> edges : edgesByType.values()){
+        result.addAll(edges.values());
+      }
+      return result;
     }
 
 
     public Stream<GEdge> getIngoingTypedStream(String target, String type){
-      if(!nodes.containsKey(target))
+      GNode node = nodes.get(target);
+      if(node == null)
         return Stream.empty();
-      return nodes.get(target).in.getOrDefault(type, new HashMap<>()).values()
+      return node.in.getOrDefault(type, ImmutableMap.of()).values()
             .stream();
     }
 
     public Set<GEdge> getIngoingTyped(String target, String type) {
-      return getIngoingTypedStream(target, type).collect(Collectors.toSet());
+      GNode node = nodes.get(target);
+      if(node == null)
+        return new HashSet<>();
+      return new HashSet<>(node.in.getOrDefault(type, ImmutableMap.of()).values());
     }
 
     public Stream<GEdge> getOutgoingTypedStream(String source, String type){
-      if(!nodes.containsKey(source))
+      GNode node = nodes.get(source);
+      if(node == null)
         return Stream.empty();
-      return nodes.get(source).out.getOrDefault(type, new HashMap<>()).values()
+      return node.out.getOrDefault(type, ImmutableMap.of()).values()
           .stream();
     }
 
     public Set<GEdge> getOutgoingTyped(String source, String type){
-      return getOutgoingTypedStream(source, type).collect(Collectors.toSet());
+      GNode node = nodes.get(source);
+      if(node == null)
+        return new HashSet<>();
+      return new HashSet<>(node.out.getOrDefault(type, ImmutableMap.of()).values());
     }
 
     public GEdge getEdge(String source, String target, String id){
-        if(nodes.containsKey(source)){
-          GNode node = getNode(source);
-
-          if(node.out.containsKey(id)){
-            Map<String, GEdge> out = node.out.get(id);
-            if(out.containsKey(target)){
-              return out.get(target);
-            }
+        GNode node = nodes.get(source);
+        if(node != null){
+          Map<String, GEdge> out = node.out.get(id);
+          if(out != null){
+            return out.get(target);
           }
-
-
         }
         return null;
     }
 
 
     public GNode getNode(String id){
-      if(nodes.containsKey(id)){
-        return nodes.get(id);
-      }
-      return null;
+      return nodes.get(id);
     }
 
     public boolean removeEdge(GEdge pGEdge){
-      if(pGEdge.getSource().out.containsKey(pGEdge.getId())){
-        pGEdge.getSource().out.get(pGEdge.getId()).remove(pGEdge.getSink().getId());
-      }
+      remove(pGEdge.getSource().out, pGEdge.getId(), pGEdge.getSink().getId());
+      remove(pGEdge.getSink().in, pGEdge.getId(), pGEdge.getSource().getId());
+      return true;
+    }
 
-      if(pGEdge.getSink().in.containsKey(pGEdge.getId())){
-        pGEdge.getSink().in.get(pGEdge.getId()).remove(pGEdge.getSource().getId());
+    /** Removes an edge from an adjacency map, and the map for its type if it becomes empty. */
+    private static void remove(
+        Map<String, Map<String, GEdge>> map, String type, String id){
+      Map<String, GEdge> edges = map.get(type);
+      if(edges != null){
+        edges.remove(id);
+        if(edges.isEmpty()){
+          map.remove(type);
+        }
       }
-
-      return true;
     }
 
     public boolean removeNode(String id){
@@ -223,11 +249,13 @@ public class StructureGraph {
 
     @Override
     public String toString(){
-      String s =  "Graph (Nodes "+nodes().size()+"):\n";
+      StringBuilder s = new StringBuilder("Graph (Nodes "+nodes().size()+"):\n");
       for(GEdge edge: edgeStream().collect(Collectors.toSet())){
-        s += edge.getSource().getId()+"[ "+edge.getSource().getLabel()+" ] -- "+edge.getId()+" --> "+edge.getSink().getId()+"[ "+edge.getSink().getLabel()+" ]\n";
+        s.append(edge.getSource().getId()).append("[ ").append(edge.getSource().getLabel())
+            .append(" ] -- ").append(edge.getId()).append(" --> ").append(edge.getSink().getId())
+            .append("[ ").append(edge.getSink().getLabel()).append(" ]\n");
       }
-      return s;
+      return s.toString();
     }
 
     public String genId(String prefix){
@@ -237,14 +265,14 @@ public class StructureGraph {
     }
 
     public String toDot(Predicate<GNode> filter, Function<GEdge, String> colorFunction, Function<GNode, String> cluster){
-      String s = "digraph G {\n";
+      StringBuilder s = new StringBuilder("digraph G {\n");
 
       Map<String, Set<String>> clusterMap = new HashMap<>();
 
       for(String n: this.nodes()){
         GNode node = this.nodes.get(n);
         if(filter.test(node)){
-          s += n+"[ label=\""+node.getLabel()+"\" ];\n";
+          s.append(n).append("[ label=\"").append(node.getLabel()).append("\" ];\n");
 
           String clusterId = cluster.apply(node);
 
@@ -259,14 +287,14 @@ public class StructureGraph {
         String clusterId = clusterEntry.getKey();
 
         if (!clusterId.equals("main")) {
-          s += "subgraph cluster_" + clusterId + " {\n label=\"" + clusterId
-              + "()\";\n color=black;\n";
+          s.append("subgraph cluster_").append(clusterId).append(" {\n label=\"").append(clusterId)
+              .append("()\";\n color=black;\n");
 
           for (String n : clusterEntry.getValue())
-            s += n+"; ";
-          s += "\n";
+            s.append(n).append("; ");
+          s.append("\n");
 
-          s += "}\n";
+          s.append("}\n");
 
         }
 
@@ -285,14 +313,15 @@ public class StructureGraph {
             if (color.equals("opaque"))
               continue;
 
-            s +=
-                e.getSource().getId() + " -> " + n + (!color.equals("black") ? "[color=" + color + "]"
-                                                                           : "") + ";\n";
+            s.append(e.getSource().getId()).append(" -> ").append(n);
+            if (!color.equals("black"))
+              s.append("[color=").append(color).append("]");
+            s.append(";\n");
           }
         }
       }
 
-      return s + "};";
+      return s.append("};").toString();
     }
 
     public String toDot(){
@@ -23,7 +23,8 @@
  */
 package org.sosy_lab.cpachecker.intelligence.learn.sample;
 
-import java.math.BigInteger;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.BaseEncoding;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 
@@ -49,13 +50,19 @@ public class AccWLFeatureModel implements IWLFeatureModel
     private GraphAnalyser analyser;
     private Map<String, Map<String, String>> relabel;
     private int iteration;
+    private final NodeRelabeling relabeling;
 
 
     public AccWLFeatureModel(final CFA pCFA, final int pAstDepth) {
+        this(pCFA, pAstDepth, 1);
+    }
+
+    public AccWLFeatureModel(final CFA pCFA, final int pAstDepth, final int pThreads) {
         this.relabel = new HashMap<String, Map<String, String>>();
         this.iteration = -1;
         this.cfa = pCFA;
         this.astDepth = pAstDepth;
+        this.relabeling = new NodeRelabeling(pThreads);
     }
 
     @Override
@@ -109,9 +116,8 @@ public class AccWLFeatureModel implements IWLFeatureModel
     private String hash(final String str) {
         final Blake2b blake2b = (Blake2b)Blake2b.Digest.newInstance();
         final byte[] bytes = blake2b.digest(str.getBytes(StandardCharsets.UTF_8));
-        String h;
-        for (h = new BigInteger(1, bytes).toString(16); h.length() < 128; h = '0' + h) {}
-        return h;
+        // the 64-byte digest as 128 lower-case hex digits, as the pretrained models expect it
+        return BaseEncoding.base16().lowerCase().encode(bytes);
     }
 
     private String relabel(final String source, final List<String> neighbours) {
@@ -162,7 +168,7 @@ public class AccWLFeatureModel implements IWLFeatureModel
     }
 
     private Map<String, String> relabelNode(final String nodeId, final Map<String, Map<String, String>> relabelIndex) {
-        final Map<String, String> relabels = relabelIndex.getOrDefault(nodeId, new HashMap<String, String>());
+        final Map<String, String> relabels = relabelIndex.getOrDefault(nodeId, ImmutableMap.of());
         final GNode node = this.graph.getNode(nodeId);
         Map<String, String> astRelabel = new HashMap<String, String>();
         String astCore = null;
@@ -176,7 +182,7 @@ public class AccWLFeatureModel implements IWLFeatureModel
         final List<String> neighLabels = new ArrayList<String>();
         for (final GEdge incoming : this.graph.getIngoing(nodeId)) {
             final GNode in = incoming.getSource();
-            final String label = this.loadLabel(in, relabelIndex.getOrDefault(in.getId(), new HashMap<String, String>()));
+            final String label = this.loadLabel(in, relabelIndex.getOrDefault(in.getId(), ImmutableMap.of()));
             neighLabels.add(String.join("_", incoming.getId(), label));
         }
         if (astCore != null) {
@@ -223,12 +229,16 @@ public class AccWLFeatureModel implements IWLFeatureModel
         final Map<String, Map<String, String>> oldRelabel = this.relabel;
         this.relabel = new HashMap<String, Map<String, String>>();
         final Map<String, Integer> count = new HashMap<String, Integer>();
-        for (final String n : this.graph.nodes()) {
+        final List<String> nodes = new ArrayList<>(this.graph.nodes());
+        final List<Map<String, String>> nodeLabels =
+            this.relabeling.relabel(
+                nodes, n -> this.relabelNode(n, oldRelabel), pShutdownNotifier);
+        for (int i = 0; i < nodes.size(); i++) {
             if (pShutdownNotifier != null) {
                 pShutdownNotifier.shutdownIfNecessary();
             }
-            final Map<String, String> labels = this.relabelNode(n, oldRelabel);
-            this.relabel.put(n, labels);
+            final Map<String, String> labels = nodeLabels.get(i);
+            this.relabel.put(nodes.get(i), labels);
             for (final String label : labels.values()) {
                 if (!count.containsKey(label)) {
                     count.put(label, 0);
@@ -0,0 +1,95 @@
+/*
+ *  CPAchecker is a tool for configurable software verification.
+ *  This file is part of CPAchecker.
+ *
+ *  Copyright (C) 2007-2019  Dirk Beyer
+ *  All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ *  CPAchecker web page:
+ *    http://cpachecker.sosy-lab.org
+ */
+package org.sosy_lab.cpachecker.intelligence.learn.sample;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.sosy_lab.common.ShutdownNotifier;
+import org.sosy_lab.cpachecker.intelligence.graph.model.control.SVGraph;
+
+/**
+ * Feature model that answers iterations from a {@link FeatureCache} if possible and only falls
+ * back to the wrapped model (and thus to building the program graph) for iterations that were not
+ * stored by a previous run. Newly computed iterations are added to the cache.
+ */
+class CachedWLFeatureModel implements IWLFeatureModel {
+
+  private final IWLFeatureModel delegate;
+  private final FeatureCache cache;
+  private final String key;
+
+  private List<Map<String, Integer>> iterations = null;
+  private int iteration = -1;
+  private int delegateIteration = -1;
+
+  CachedWLFeatureModel(IWLFeatureModel pDelegate, FeatureCache pCache, String pKey) {
+    delegate = pDelegate;
+    cache = pCache;
+    key = pKey;
+  }
+
+  @Override
+  public int getAstDepth() {
+    return delegate.getAstDepth();
+  }
+
+  @Override
+  public SVGraph getGraph(ShutdownNotifier pShutdownNotifier) throws InterruptedException {
+    return delegate.getGraph(pShutdownNotifier);
+  }
+
+  @Override
+  public Map<String, Integer> iterate() {
+    try {
+      return iterate(null);
+    } catch (InterruptedException pE) {
+      return new HashMap<>();
+    }
+  }
+
+  @Override
+  public Map<String, Integer> iterate(ShutdownNotifier pShutdownNotifier)
+      throws InterruptedException {
+    iteration++;
+    if (iterations == null) {
+      iterations = new ArrayList<>(cache.load(key));
+    }
+    if (iteration < iterations.size()) {
+      return new HashMap<>(iterations.get(iteration));
+    }
+
+    // WL iterations build on each other, so the wrapped model has to catch up first
+    Map<String, Integer> result = null;
+    while (delegateIteration < iteration) {
+      result = delegate.iterate(pShutdownNotifier);
+      delegateIteration++;
+    }
+    iterations.add(ImmutableMap.copyOf(result));
+    cache.store(key, iterations);
+    return result;
+  }
+}
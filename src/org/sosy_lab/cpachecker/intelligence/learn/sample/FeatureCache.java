@@ -0,0 +1,240 @@
+/*
+ *  CPAchecker is a tool for configurable software verification.
+ *  This file is part of CPAchecker.
+ *
+ *  Copyright (C) 2007-2019  Dirk Beyer
+ *  All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ *  CPAchecker web page:
+ *    http://cpachecker.sosy-lab.org
+ */
+package org.sosy_lab.cpachecker.intelligence.learn.sample;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Ordering;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.logging.Level;
+import org.sosy_lab.common.log.LogManager;
+import org.sosy_lab.cpachecker.cfa.CFA;
+import org.sosy_lab.cpachecker.cfa.model.CFAEdge;
+import org.sosy_lab.cpachecker.cfa.model.CFANode;
+import org.sosy_lab.cpachecker.cfa.model.FunctionEntryNode;
+import org.sosy_lab.cpachecker.util.CFAUtils;
+
+/**
+ * Stores the WL feature counts of programs on disk, such that a later run on the same program can
+ * use them without building the program graph again. Entries are keyed by a hash of the CFA and
+ * of the parameters of the feature model.
+ *
+ * <p>Each entry is a text file with one block per WL iteration. A block starts with a line "#"
+ * and contains one line "count&lt;TAB&gt;feature" per feature. At most a given number of entries is
+ * kept, the least recently used ones are removed.
+ */
+public class FeatureCache {
+
+  /** Increase whenever the features computed for a program change. */
+  private static final int FORMAT_VERSION = 2;
+
+  private static final String ITERATION_START = "#";
+
+  private static final String ENTRY_SUFFIX = ".features";
+
+  private final Path directory;
+  private final int maxEntries;
+  private final LogManager logger;
+
+  public FeatureCache(Path pDirectory, int pMaxEntries, LogManager pLogger) {
+    directory = pDirectory;
+    maxEntries = pMaxEntries;
+    logger = pLogger;
+  }
+
+  /**
+   * Computes the key under which the features of the given program are stored. The key is based
+   * on the edges of the CFA, i.e., on the program after parsing and preprocessing, because the
+   * features are computed from the CFA. The node numbers of the CFA depend on everything that was
+   * parsed before in the same JVM, so nodes are identified by the order in which a traversal of
+   * the functions (sorted by name) reaches them instead.
+   *
+   * @param pCfa the program
+   * @param pParameters the parameters of the feature model that influence the features
+   */
+  public String computeKey(CFA pCfa, Object... pParameters) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putInt(FORMAT_VERSION);
+    for (Object parameter : pParameters) {
+      hasher.putString(String.valueOf(parameter), UTF_8).putByte((byte) 0);
+    }
+    Map<CFANode, Integer> index = new HashMap<>();
+    ArrayDeque<CFANode> waitlist = new ArrayDeque<>();
+    for (FunctionEntryNode function :
+        Ordering.natural()
+            .onResultOf(FunctionEntryNode::getFunctionName)
+            .sortedCopy(pCfa.getAllFunctionHeads())) {
+      if (index.putIfAbsent(function, index.size()) == null) {
+        waitlist.add(function);
+      }
+      while (!waitlist.isEmpty()) {
+        CFANode node = waitlist.poll();
+        hasher.putInt(index.get(node));
+        for (CFAEdge edge : CFAUtils.allLeavingEdges(node)) {
+          CFANode successor = edge.getSuccessor();
+          if (index.putIfAbsent(successor, index.size()) == null) {
+            waitlist.add(successor);
+          }
+          hasher
+              .putInt(index.get(successor))
+              .putString(edge.getEdgeType().name(), UTF_8)
+              .putString(edge.getDescription(), UTF_8)
+              .putByte((byte) 0);
+        }
+      }
+    }
+    hasher.putInt(pCfa.getAllNodes().size());
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Returns the feature counts of all iterations stored for the given key, or an empty list if
+   * nothing (readable) is stored.
+   */
+  public List<Map<String, Integer>> load(String pKey) {
+    try {
+      List<Map<String, Integer>> iterations = readEntry(pKey);
+      if (!iterations.isEmpty()) {
+        // mark the entry as recently used
+        Files.setLastModifiedTime(getFile(pKey), FileTime.fromMillis(System.currentTimeMillis()));
+      }
+      return iterations;
+    } catch (IOException e) {
+      // the entry is recomputed and overwritten
+      logger.logUserException(Level.WARNING, e, "Could not read cached program features");
+      return ImmutableList.of();
+    }
+  }
+
+  /**
+   * Stores the feature counts of the given iterations for the given key. The entry is replaced
+   * atomically, such that concurrent runs never read a partially written entry. Afterwards, the
+   * least recently used entries are removed if there are too many.
+   */
+  public void store(String pKey, List<Map<String, Integer>> pIterations) {
+    try {
+      writeEntry(pKey, pIterations);
+      removeOldEntries();
+    } catch (IOException e) {
+      logger.logUserException(Level.WARNING, e, "Could not cache program features");
+    }
+  }
+
+  private void removeOldEntries() throws IOException {
+    List<Path> entries = new ArrayList<>();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+      files.forEach(entries::add);
+    }
+    if (entries.size() <= maxEntries) {
+      return;
+    }
+    Map<Path, FileTime> lastUse = new HashMap<>();
+    for (Path entry : entries) {
+      try {
+        lastUse.put(entry, Files.getLastModifiedTime(entry));
+      } catch (NoSuchFileException e) {
+        // removed concurrently
+        lastUse.put(entry, FileTime.fromMillis(0));
+      }
+    }
+    entries.sort(Comparator.comparing(lastUse::get));
+    for (Path entry : entries.subList(0, entries.size() - maxEntries)) {
+      Files.deleteIfExists(entry);
+    }
+  }
+
+  private List<Map<String, Integer>> readEntry(String pKey) throws IOException {
+    List<Map<String, Integer>> iterations = new ArrayList<>();
+    ImmutableMap.Builder<String, Integer> current = null;
+    try (BufferedReader reader = Files.newBufferedReader(getFile(pKey), UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.equals(ITERATION_START)) {
+          if (current != null) {
+            iterations.add(current.buildOrThrow());
+          }
+          current = ImmutableMap.builder();
+          continue;
+        }
+        int separator = line.indexOf('\t');
+        if (current == null || separator < 0) {
+          throw new IOException("Invalid feature cache entry " + getFile(pKey));
+        }
+        current.put(
+            line.substring(separator + 1), Integer.parseInt(line.substring(0, separator)));
+      }
+      if (current != null) {
+        iterations.add(current.buildOrThrow());
+      }
+    } catch (NoSuchFileException e) {
+      return ImmutableList.of();
+    } catch (IllegalArgumentException e) {
+      // malformed count or duplicate feature
+      throw new IOException("Invalid feature cache entry " + getFile(pKey), e);
+    }
+    return iterations;
+  }
+
+  private void writeEntry(String pKey, List<Map<String, Integer>> pIterations)
+      throws IOException {
+    Files.createDirectories(directory);
+    Path tmp = Files.createTempFile(directory, pKey, ".tmp");
+    try {
+      try (Writer writer = Files.newBufferedWriter(tmp, UTF_8)) {
+        for (Map<String, Integer> iteration : pIterations) {
+          writer.write(ITERATION_START + "\n");
+          for (Entry<String, Integer> feature : iteration.entrySet()) {
+            writer.write(feature.getValue() + "\t" + feature.getKey() + "\n");
+          }
+        }
+      }
+      Files.move(tmp, getFile(pKey), StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private Path getFile(String pKey) {
+    return directory.resolve(pKey + ENTRY_SUFFIX);
+  }
+}
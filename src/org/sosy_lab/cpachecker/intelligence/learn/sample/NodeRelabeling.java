@@ -0,0 +1,112 @@
+/*
+ *  CPAchecker is a tool for configurable software verification.
+ *  This file is part of CPAchecker.
+ *
+ *  Copyright (C) 2007-2019  Dirk Beyer
+ *  All rights reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ *  CPAchecker web page:
+ *    http://cpachecker.sosy-lab.org
+ */
+package org.sosy_lab.cpachecker.intelligence.learn.sample;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.sosy_lab.common.ShutdownNotifier;
+
+/**
+ * Computes the new labels of one WL iteration for all nodes of a graph. The relabeling of a node
+ * only reads the graph and the labels of the previous iteration, so the nodes can be processed
+ * independently on a fork-join pool if more than one thread is requested.
+ *
+ * <p>All relabelings with the same number of threads share one pool, because a feature model is
+ * created per program and has no point at which a pool of its own could be shut down. The worker
+ * threads of a pool are daemon threads that terminate when they are idle for a while.
+ */
+class NodeRelabeling {
+
+  /** Number of chunks per thread, such that threads that finish early can steal work. */
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private static final Map<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+  private final int threads;
+
+  NodeRelabeling(int pThreads) {
+    threads = pThreads;
+  }
+
+  /**
+   * Applies the given relabeling to all nodes and returns the results in the order of the nodes.
+   * The relabeling must not modify any shared state.
+   */
+  <T> List<T> relabel(
+      Collection<String> pNodes,
+      Function<String, T> pRelabel,
+      @Nullable ShutdownNotifier pShutdownNotifier)
+      throws InterruptedException {
+    List<String> nodes = new ArrayList<>(pNodes);
+    if (threads <= 1 || nodes.size() < 2 * threads) {
+      List<T> result = new ArrayList<>(nodes.size());
+      for (String node : nodes) {
+        if (pShutdownNotifier != null) {
+          pShutdownNotifier.shutdownIfNecessary();
+        }
+        result.add(pRelabel.apply(node));
+      }
+      return result;
+    }
+
+    ForkJoinPool pool = POOLS.computeIfAbsent(threads, ForkJoinPool::new);
+    int chunkSize = (nodes.size() - 1) / (threads * CHUNKS_PER_THREAD) + 1;
+    List<Callable<List<T>>> tasks = new ArrayList<>();
+    for (List<String> chunk : Lists.partition(nodes, chunkSize)) {
+      tasks.add(
+          () -> {
+            List<T> result = new ArrayList<>(chunk.size());
+            for (String node : chunk) {
+              if (pShutdownNotifier != null) {
+                pShutdownNotifier.shutdownIfNecessary();
+              }
+              result.add(pRelabel.apply(node));
+            }
+            return result;
+          });
+    }
+
+    List<T> result = new ArrayList<>(nodes.size());
+    try {
+      for (Future<List<T>> future : pool.invokeAll(tasks)) {
+        result.addAll(future.get());
+      }
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), InterruptedException.class);
+      throw new AssertionError("Relabeling threw checked exception", e.getCause());
+    }
+    return result;
+  }
+}
@@ -38,14 +38,22 @@ public class SampleRegistry {
   private FeatureRegistry registry;
   private ISampleBackend backend;
   private boolean accelerated = false;
+  private int threads = 1;
+  private FeatureCache featureCache = null;
 
   public SampleRegistry(FeatureRegistry pFeatureRegistry, int pMaxIteration, int pAstDepth,
-                        ISampleBackend pISampleBackend, boolean pAccelerated) {
+                        ISampleBackend pISampleBackend, boolean pAccelerated, int pThreads) {
     this.registry = pFeatureRegistry;
     maxIteration = pMaxIteration;
     astDepth = pAstDepth;
     this.backend = pISampleBackend;
     this.accelerated = pAccelerated;
+    this.threads = pThreads;
+  }
+
+  public SampleRegistry(FeatureRegistry pFeatureRegistry, int pMaxIteration, int pAstDepth,
+                        ISampleBackend pISampleBackend, boolean pAccelerated) {
+    this(pFeatureRegistry, pMaxIteration, pAstDepth, pISampleBackend, pAccelerated, 1);
   }
 
   public SampleRegistry(FeatureRegistry pFeatureRegistry, int pMaxIteration, int pAstDepth,
@@ -58,14 +66,25 @@ public class SampleRegistry {
     this(pFeatureRegistry, pMaxIteration, pAstDepth, new InMemBackend());
   }
 
+  /** Lets samples registered from now on reuse features that were stored by previous runs. */
+  public void setFeatureCache(FeatureCache pFeatureCache) {
+    featureCache = pFeatureCache;
+  }
+
   public IProgramSample registerSample(String id, CFA pCFA){
 
     IWLFeatureModel featureModel;
 
     if(accelerated){
-      featureModel = new AccWLFeatureModel(pCFA, this.astDepth);
+      featureModel = new AccWLFeatureModel(pCFA, this.astDepth, this.threads);
     }else{
-      featureModel = new WLFeatureModel(pCFA, this.astDepth);
+      featureModel = new WLFeatureModel(pCFA, this.astDepth, this.threads);
+    }
+
+    if(featureCache != null){
+      String key = featureCache.computeKey(
+          pCFA, featureModel.getClass().getSimpleName(), this.astDepth);
+      featureModel = new CachedWLFeatureModel(featureModel, featureCache, key);
     }
 
     RealProgramSample sample = new RealProgramSample(
@@ -24,11 +24,8 @@
 package org.sosy_lab.cpachecker.intelligence.learn.sample;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Lists;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
-import com.google.common.primitives.Bytes;
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -45,37 +42,36 @@ import org.sosy_lab.cpachecker.intelligence.graph.model.control.SVGraph;
 
 public class WLFeatureModel implements IWLFeatureModel {
 
-    private static Map<String, String> relabelLabel = null;
-
-    private static Map<String, String> relabelLabel(){
-      if(relabelLabel == null) {
-        Map<String, String> map = new HashMap<>();
-        map.put("UNSIGNED_INT", "INT");
-        map.put("LONG_UNSIGNED_INT", "LONG");
-        map.put("LONG_INT", "LONG");
-        map.put("LONGLONG_UNSIGNED_INT", "LONG");
-        map.put("LONGLONG_INT", "LONG");
-        map.put("LONG_UNSIGNED_LONG", "LONG");
-        map.put("LONG_LONG", "LONG");
-        map.put("UNSIGNED_CHAR", "CHAR");
-        map.put("VOLATILE_LONG_LONG", "VOLATILE_LONG");
-        map.put("VOLATILE_LONG_UNSIGNED_INT", "VOLATILE_LONG");
-        map.put("VOLATILE_LONG_INT", "VOLATILE_LONG");
-        map.put("VOLATILE_LONG_UNSIGNED_LONG", "VOLATILE_LONG");
-        map.put("VOLATILE_UNSIGNED_INT", "VOLATILE_INT");
-        map.put("CONST_UNSIGNED_INT", "CONST_INT");
-        map.put("CONST_LONG_LONG", "CONST_LONG");
-        map.put("CONST_LONG_UNSIGNED_LONG", "CONST_LONG");
-        map.put("CONST_LONGLONG_UNSIGNED_LONGLONG", "CONST_LONG");
-        map.put("CONST_LONGLONG_LONGLONG", "CONST_LONG");
-        map.put("CONST_UNSIGNED_CHAR", "CONST_CHAR");
-        map.put("INT_LITERAL_SMALL", "INT_LITERAL");
-        map.put("INT_LITERAL_MEDIUM", "INT_LITERAL");
-        map.put("INT_LITERAL_LARGE", "INT_LITERAL");
-
-        relabelLabel = ImmutableMap.copyOf(map);
-      }
-      return relabelLabel;
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+
+    private static final Map<String, String> relabelLabel = createRelabelLabel();
+
+    private static Map<String, String> createRelabelLabel(){
+      Map<String, String> map = new HashMap<>();
+      map.put("UNSIGNED_INT", "INT");
+      map.put("LONG_UNSIGNED_INT", "LONG");
+      map.put("LONG_INT", "LONG");
+      map.put("LONGLONG_UNSIGNED_INT", "LONG");
+      map.put("LONGLONG_INT", "LONG");
+      map.put("LONG_UNSIGNED_LONG", "LONG");
+      map.put("LONG_LONG", "LONG");
+      map.put("UNSIGNED_CHAR", "CHAR");
+      map.put("VOLATILE_LONG_LONG", "VOLATILE_LONG");
+      map.put("VOLATILE_LONG_UNSIGNED_INT", "VOLATILE_LONG");
+      map.put("VOLATILE_LONG_INT", "VOLATILE_LONG");
+      map.put("VOLATILE_LONG_UNSIGNED_LONG", "VOLATILE_LONG");
+      map.put("VOLATILE_UNSIGNED_INT", "VOLATILE_INT");
+      map.put("CONST_UNSIGNED_INT", "CONST_INT");
+      map.put("CONST_LONG_LONG", "CONST_LONG");
+      map.put("CONST_LONG_UNSIGNED_LONG", "CONST_LONG");
+      map.put("CONST_LONGLONG_UNSIGNED_LONGLONG", "CONST_LONG");
+      map.put("CONST_LONGLONG_LONGLONG", "CONST_LONG");
+      map.put("CONST_UNSIGNED_CHAR", "CONST_CHAR");
+      map.put("INT_LITERAL_SMALL", "INT_LITERAL");
+      map.put("INT_LITERAL_MEDIUM", "INT_LITERAL");
+      map.put("INT_LITERAL_LARGE", "INT_LITERAL");
+
+      return ImmutableMap.copyOf(map);
     }
 
     private CFA cfa;
@@ -85,10 +81,16 @@ public class WLFeatureModel implements IWLFeatureModel {
     private GraphAnalyser analyser;
     private Map<String, String> relabel = new HashMap<>();
     private int iteration = -1;
+    private final NodeRelabeling relabeling;
 
     public WLFeatureModel(CFA pCFA, int pAstDepth){
+      this(pCFA, pAstDepth, 1);
+    }
+
+    public WLFeatureModel(CFA pCFA, int pAstDepth, int pThreads){
       cfa = pCFA;
       astDepth = pAstDepth;
+      relabeling = new NodeRelabeling(pThreads);
     }
 
     @Override
@@ -108,8 +110,8 @@ public class WLFeatureModel implements IWLFeatureModel {
         if(pShutdownNotifier != null)
           pShutdownNotifier.shutdownIfNecessary();
 
-        //if(relabelLabel().containsKey(label))
-          //label = relabelLabel().get(label);
+        //if(relabelLabel.containsKey(label))
+          //label = relabelLabel.get(label);
 
         if(!count.containsKey(label))
           count.put(label, 0);
@@ -138,10 +140,8 @@ public class WLFeatureModel implements IWLFeatureModel {
     }
 
     private String hash(String str){
-      HashFunction function = Hashing.murmur3_32();
-      byte[] bytes = function.hashString(str, StandardCharsets.UTF_8).asBytes();
-      bytes = Bytes.toArray(Lists.reverse(Bytes.asList(bytes)));
-      return new BigInteger(bytes).toString();
+      // the signed decimal value of the little-endian hash, as the pretrained models expect it
+      return Integer.toString(HASH_FUNCTION.hashString(str, StandardCharsets.UTF_8).asInt());
     }
 
 
@@ -149,8 +149,8 @@ public class WLFeatureModel implements IWLFeatureModel {
       String label = graph.getNode(nodeId).getLabel();
       if(relabelIndex.containsKey(nodeId))
         label = relabelIndex.get(nodeId);
-      if(relabelLabel().containsKey(label))
-        label = relabelLabel().get(label);
+      if(relabelLabel.containsKey(label))
+        label = relabelLabel.get(label);
 
       List<String> neighbours = new ArrayList<>();
 
@@ -159,8 +159,8 @@ public class WLFeatureModel implements IWLFeatureModel {
         String neigh_label = node.getLabel();
         if(relabelIndex.containsKey(e.getSource().getId()))
           neigh_label = relabelIndex.get(e.getSource().getId());
-        if(relabelLabel().containsKey(neigh_label))
-          neigh_label = relabelLabel().get(neigh_label);
+        if(relabelLabel.containsKey(neigh_label))
+          neigh_label = relabelLabel.get(neigh_label);
         String edge_type = e.getId();
 
         //String truth = Boolean.FALSE.toString();
@@ -221,9 +221,13 @@ public class WLFeatureModel implements IWLFeatureModel {
 
       Map<String, Integer> count = new HashMap<>();
 
-      for(String n: graph.nodes()){
-        String label = relabelNode(n, oldRelabel);
-        relabel.put(n, label);
+      List<String> nodes = new ArrayList<>(graph.nodes());
+      List<String> labels =
+          relabeling.relabel(nodes, n -> relabelNode(n, oldRelabel), pShutdownNotifier);
+
+      for(int i = 0; i < nodes.size(); i++){
+        String label = labels.get(i);
+        relabel.put(nodes.get(i), label);
         if(!count.containsKey(label))
           count.put(label, 0);
         count.put(label, count.get(label) + 1);
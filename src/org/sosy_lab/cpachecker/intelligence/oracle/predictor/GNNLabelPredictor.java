@@ -23,40 +23,66 @@
  */
 package org.sosy_lab.cpachecker.intelligence.oracle.predictor;
 
-import java.lang.*;
-import java.io.*;
-import java.util.ArrayList;
-import java.util.Arrays;
+import static com.google.common.collect.FluentIterable.from;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
-import java.util.StringJoiner;
 import java.util.List;
-import java.util.Scanner;
-import java.util.logging.Level;
-import java.nio.charset.Charset;
 import java.util.concurrent.TimeUnit;
-import java.net.URL;
-import java.net.URISyntaxException;
+import java.util.logging.Level;
 import org.sosy_lab.common.configuration.Configuration;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
 import org.sosy_lab.common.log.LogManager;
 import org.sosy_lab.cpachecker.core.interfaces.Statistics;
-import org.sosy_lab.cpachecker.intelligence.learn.IRankLearner;
-import org.sosy_lab.cpachecker.intelligence.learn.RPCLearner;
-import org.sosy_lab.cpachecker.intelligence.learn.binary.LinearPretrainedType;
-import org.sosy_lab.cpachecker.intelligence.learn.binary.PredictorBatchBuilder;
-import org.sosy_lab.cpachecker.intelligence.learn.binary.exception.IncompleteConfigurationException;
 import org.sosy_lab.cpachecker.intelligence.learn.sample.IProgramSample;
 import org.sosy_lab.cpachecker.intelligence.oracle.OracleStatistics;
+import org.sosy_lab.cpachecker.util.automaton.AutomatonGraphmlCommon;
 
 @Options(prefix="GNNPredictor")
 public class GNNLabelPredictor implements IOracleLabelPredictor {
 
+  private static final ImmutableList<String> DEFAULT_ORDER =
+      ImmutableList.of("SymEx", "VA-NoCegar", "VA-Cegar", "KI", "PA");
+
+  /** Labels the GNN script can predict, other lines of its output are debug output. */
+  private static final ImmutableSet<String> LABELS =
+      ImmutableSet.of("BMC", "KI", "PA", "SymEx", "VA-NoCegar", "VA-Cegar");
+
+  private static final int MAX_CACHED_RANKINGS = 16;
+
+  /**
+   * Rankings that were recently predicted in this JVM, indexed by the content hashes of program
+   * and model, such that a file that changed under the same name is predicted again. Starting the
+   * GNN costs seconds for interpreter startup, model loading and graph extraction, so it is done
+   * at most once per program even if several oracles ask for a ranking.
+   */
+  private static final Cache<String, ImmutableList<String>> predictedRankings =
+      CacheBuilder.newBuilder().maximumSize(MAX_CACHED_RANKINGS).build();
+
   @Option(secure = true,
-      description = "pretrained parameter of GNN")
+      description = "pretrained parameter of GNN (defaults to scripts/gnn/model.pt)")
   private String pretrained = null;
 
+  @Option(description = "python interpreter that is used to run the GNN")
+  private String python = "python3";
+
+  @Option(secure = true,
+      description = "timeout in seconds for the GNN prediction")
+  @IntegerOption(min = 1)
+  private int timeout = 90;
+
   private LogManager logger;
   private OracleStatistics statistics = new OracleStatistics(getName()+" Oracle");
   private IProgramSample currentSample;
@@ -81,52 +107,102 @@ public class GNNLabelPredictor implements IOracleLabelPredictor {
     statistics.reset();
 
     program = program.substring(1, program.length()-1);
-    String result = "";
-    boolean ret;
-    List<String> out;
     String jarDir;
     try{
-      jarDir = new File(GNNLabelPredictor.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getParent().toString();
+      jarDir = new File(GNNLabelPredictor.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getParent();
     }
     catch(URISyntaxException ue){
-      String defaultOrder[] = new String[] {"SymEx", "VA-NoCegar", "VA-Cegar", "KI", "PA"};
-      out = Arrays.asList(defaultOrder);
-      logger.log(Level.INFO, "Prediction Failed. Using Default order: "+out.toString());
-      return out;
+      return useDefaultOrder();
+    }
+    String model = pretrained != null ? pretrained : jarDir + "/scripts/gnn/model.pt";
+
+    String key = computeKey(program, model);
+    ImmutableList<String> out = key != null ? predictedRankings.getIfPresent(key) : null;
+    if(out == null){
+      out = predict(program, model, jarDir);
+      if(out == null){
+        return useDefaultOrder();
+      }
+      if(key != null){
+        predictedRankings.put(key, out);
+      }
     }
+    logger.log(Level.INFO, "Predicted ranking: "+out.toString());
 
-    logger.log(Level.INFO, "python3", jarDir.toString()+"/scripts/gnn/graves.py", program, jarDir.toString()+"/scripts/gnn/model.pt", jarDir.toString()+"/graph-builder");
-    var pb = new ProcessBuilder("python3", jarDir.toString()+"/scripts/gnn/graves.py", program, jarDir.toString()+"/scripts/gnn/model.pt", jarDir.toString()+"/graph-builder");
-    
+    statistics.setOrder(out);
+    statistics.stopTime();
+    return out;
+  }
+
+  /** Returns the cache key for program and model, or null if one of the files can not be read. */
+  private String computeKey(String program, String model) {
     try{
-      Process p = pb.start();
-      final BufferedReader reader = new BufferedReader(new InputStreamReader(p.getInputStream()));
-      StringJoiner sj = new StringJoiner(System.getProperty("line.separator"));
-      reader.lines().iterator().forEachRemaining(sj::add);
-      result = sj.toString();
-      ret = p.waitFor(90, TimeUnit.SECONDS);
-      logger.log(Level.INFO, "Done ", ret);
+      return AutomatonGraphmlCommon.computeHash(Path.of(program))
+          + "\n"
+          + AutomatonGraphmlCommon.computeHash(Path.of(model));
     }
-    catch (IOException | InterruptedException iE){
-      String defaultOrder[] = new String[] {"SymEx", "VA-NoCegar", "VA-Cegar", "KI", "PA"};
-      out = Arrays.asList(defaultOrder);
-      logger.log(Level.INFO, "Prediction Failed. Using Default order: "+out.toString());
-      return out;
+    catch (IOException iE){
+      logger.logDebugException(iE, "Failed to hash input of GNN");
+      return null;
     }
+  }
+
+  /**
+   * Runs the GNN script for the given program and returns the predicted ranking, or null if the
+   * prediction failed or did not finish in time.
+   */
+  private ImmutableList<String> predict(String program, String model, String jarDir) {
+    ProcessBuilder pb = new ProcessBuilder(
+        python, jarDir+"/scripts/gnn/graves.py", program, model, jarDir+"/graph-builder");
+    logger.log(Level.INFO, pb.command());
+
+    // The script may print large amounts of debug output (e.g., the whole graph), so stdout goes
+    // into a file that can not block the process like a full pipe. Warnings on stderr are dropped.
+    pb.redirectError(ProcessBuilder.Redirect.DISCARD);
 
-    if(ret){
-      out = Arrays.asList(result.split("\n"));
-      logger.log(Level.INFO, "Predicted ranking: "+out.toString());
+    Path output = null;
+    Process p = null;
+    try{
+      output = Files.createTempFile("gnn-prediction", ".txt");
+      pb.redirectOutput(output.toFile());
+      p = pb.start();
+      p.getOutputStream().close();
+      if(!p.waitFor(timeout, TimeUnit.SECONDS)){
+        logger.log(Level.INFO, "GNN prediction did not finish within", timeout, "seconds");
+        return null;
+      }
+      ImmutableList<String> out =
+          from(Files.readAllLines(output, Charset.defaultCharset()))
+              .filter(LABELS::contains)
+              .toList();
+      return out.isEmpty() ? null : out;
+    }
+    catch (IOException iE){
+      logger.logDebugException(iE, "Failed to run GNN");
+      return null;
     }
-    else{
-      String defaultOrder[] = new String[] {"SymEx", "VA-NoCegar", "VA-Cegar", "KI", "PA"};
-      out = Arrays.asList(defaultOrder);
-      logger.log(Level.INFO, "Prediction Failed. Using Default order: "+out.toString());
+    catch (InterruptedException iE){
+      Thread.currentThread().interrupt();
+      return null;
     }
+    finally{
+      if(p != null){
+        p.destroyForcibly();
+      }
+      if(output != null){
+        try{
+          Files.deleteIfExists(output);
+        }
+        catch (IOException iE){
+          logger.logDebugException(iE, "Failed to delete output of GNN");
+        }
+      }
+    }
+  }
 
-    statistics.setOrder(out);
-    statistics.stopTime();
-    return out;
+  private List<String> useDefaultOrder() {
+    logger.log(Level.INFO, "Prediction Failed. Using Default order: "+DEFAULT_ORDER.toString());
+    return DEFAULT_ORDER;
   }
 
   @Override
@@ -13,8 +13,12 @@ import static org.sosy_lab.common.collect.Collections3.transformedImmutableListC
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
@@ -23,6 +27,7 @@ import com.google.common.io.CharStreams;
 import com.google.common.io.MoreFiles;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -43,6 +48,9 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -335,6 +343,56 @@ public class AutomatonGraphmlCommon {
     return BaseEncoding.base16().lowerCase().encode(hash.asBytes());
   }
 
+  /**
+   * Returns the data of the graph element of a witness, i.e., the meta data of the verification
+   * task, in the order in which it is written.
+   */
+  public static ImmutableList<Map.Entry<KeyDef, String>> getGraphData(
+      WitnessType pGraphType, CFA pCfa, VerificationTaskMetaData pVerificationTaskMetaData)
+      throws IOException {
+    ImmutableList.Builder<Map.Entry<KeyDef, String>> result = ImmutableList.builder();
+    result.add(Maps.immutableEntry(KeyDef.WITNESS_TYPE, pGraphType.toString()));
+    result.add(Maps.immutableEntry(KeyDef.SOURCECODELANGUAGE, pCfa.getLanguage().toString()));
+    result.add(
+        Maps.immutableEntry(KeyDef.PRODUCER, pVerificationTaskMetaData.getProducerString()));
+
+    int nSpecs = 0;
+    for (Property property : pVerificationTaskMetaData.getProperties()) {
+      result.add(Maps.immutableEntry(KeyDef.SPECIFICATION, property.toFullString(pCfa)));
+      ++nSpecs;
+    }
+
+    for (Path specFile : pVerificationTaskMetaData.getNonPropertySpecificationFiles()) {
+      result.add(
+          Maps.immutableEntry(
+              KeyDef.SPECIFICATION, Files.readString(specFile, StandardCharsets.UTF_8).trim()));
+      ++nSpecs;
+    }
+
+    if (nSpecs == 0) {
+      result.add(Maps.immutableEntry(KeyDef.SPECIFICATION, "TRUE"));
+    }
+
+    for (Path inputWitness : pVerificationTaskMetaData.getInputWitnessFiles()) {
+      result.add(Maps.immutableEntry(KeyDef.INPUTWITNESSHASH, computeHash(inputWitness)));
+    }
+
+    for (Path programFile : pCfa.getFileNames()) {
+      result.add(Maps.immutableEntry(KeyDef.PROGRAMFILE, programFile.toString()));
+    }
+    for (Path programFile : pCfa.getFileNames()) {
+      result.add(Maps.immutableEntry(KeyDef.PROGRAMHASH, computeHash(programFile)));
+    }
+
+    result.add(
+        Maps.immutableEntry(KeyDef.ARCHITECTURE, getArchitecture(pCfa.getMachineModel())));
+    ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault()).withNano(0);
+    result.add(
+        Maps.immutableEntry(
+            KeyDef.CREATIONTIME, now.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)));
+    return result.build();
+  }
+
   public static class GraphMlBuilder {
 
     private final Document doc;
@@ -367,46 +425,10 @@ public class AutomatonGraphmlCommon {
       graph = doc.createElement("graph");
       root.appendChild(graph);
       graph.setAttribute("edgedefault", "directed");
-      graph.appendChild(createDataElement(KeyDef.WITNESS_TYPE, pGraphType.toString()));
-      graph.appendChild(
-          createDataElement(KeyDef.SOURCECODELANGUAGE, pCfa.getLanguage().toString()));
-      graph.appendChild(
-          createDataElement(KeyDef.PRODUCER, pVerificationTaskMetaData.getProducerString()));
-
-      int nSpecs = 0;
-      for (Property property : pVerificationTaskMetaData.getProperties()) {
-        graph.appendChild(createDataElement(KeyDef.SPECIFICATION, property.toFullString(pCfa)));
-        ++nSpecs;
+      for (Map.Entry<KeyDef, String> data :
+          getGraphData(pGraphType, pCfa, pVerificationTaskMetaData)) {
+        graph.appendChild(createDataElement(data.getKey(), data.getValue()));
       }
-
-      for (Path specFile : pVerificationTaskMetaData.getNonPropertySpecificationFiles()) {
-        graph.appendChild(
-            createDataElement(
-                KeyDef.SPECIFICATION, Files.readString(specFile, StandardCharsets.UTF_8).trim()));
-        ++nSpecs;
-      }
-
-      if (nSpecs == 0) {
-        graph.appendChild(createDataElement(KeyDef.SPECIFICATION, "TRUE"));
-      }
-
-      for (Path inputWitness : pVerificationTaskMetaData.getInputWitnessFiles()) {
-        graph.appendChild(createDataElement(KeyDef.INPUTWITNESSHASH, computeHash(inputWitness)));
-      }
-
-      for (Path programFile : pCfa.getFileNames()) {
-        graph.appendChild(createDataElement(KeyDef.PROGRAMFILE, programFile.toString()));
-      }
-      for (Path programFile : pCfa.getFileNames()) {
-        graph.appendChild(createDataElement(KeyDef.PROGRAMHASH, computeHash(programFile)));
-      }
-
-      graph.appendChild(
-          createDataElement(KeyDef.ARCHITECTURE, getArchitecture(pCfa.getMachineModel())));
-      ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault()).withNano(0);
-      graph.appendChild(
-          createDataElement(
-              KeyDef.CREATIONTIME, now.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME)));
     }
 
     private void defineKey(KeyDef pKeyDef) {
@@ -508,6 +530,143 @@ public class AutomatonGraphmlCommon {
     }
   }
 
+  /**
+   * Writes a GraphML document directly to its target, without building a DOM tree in memory. The
+   * output is the same as the one of {@link GraphMlBuilder}, but the keys need to be known before
+   * the graph is written, and each node and edge is written completely at once.
+   */
+  public static class GraphMlWriter {
+
+    private final XMLStreamWriter out;
+
+    /**
+     * Starts the document and writes the definitions of the given keys and the graph data.
+     *
+     * @param pTarget where to write the document to
+     * @param pKeys all keys that are used in the document, including the ones of the graph data
+     * @param pDefaultSourceFileName the default value of the key {@link KeyDef#ORIGINFILE}
+     * @param pGraphData the data of the graph element, cf. {@link #getGraphData}
+     */
+    public GraphMlWriter(
+        Appendable pTarget,
+        Set<KeyDef> pKeys,
+        @Nullable String pDefaultSourceFileName,
+        List<Map.Entry<KeyDef, String>> pGraphData)
+        throws IOException {
+      Writer writer = CharStreams.asWriter(pTarget);
+      writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+      try {
+        out = XMLOutputFactory.newFactory().createXMLStreamWriter(writer);
+        out.writeStartElement("graphml");
+        out.writeNamespace("xsi", "http://www.w3.org/2001/XMLSchema-instance");
+        out.writeDefaultNamespace("http://graphml.graphdrawing.org/xmlns");
+
+        for (KeyDef keyDef : ImmutableSortedSet.copyOf(pKeys)) {
+          String defaultValue =
+              keyDef == KeyDef.ORIGINFILE ? pDefaultSourceFileName : keyDef.defaultValue;
+          indent(1);
+          if (defaultValue == null) {
+            out.writeEmptyElement(GraphMLTag.KEY.toString());
+          } else {
+            out.writeStartElement(GraphMLTag.KEY.toString());
+          }
+          out.writeAttribute("id", keyDef.id);
+          out.writeAttribute("for", keyDef.keyFor.toString());
+          out.writeAttribute("attr.name", keyDef.attrName);
+          out.writeAttribute("attr.type", keyDef.attrType);
+          if (defaultValue != null) {
+            indent(2);
+            out.writeStartElement(GraphMLTag.DEFAULT.toString());
+            out.writeCharacters(defaultValue);
+            out.writeEndElement();
+            indent(1);
+            out.writeEndElement();
+          }
+        }
+
+        indent(1);
+        out.writeStartElement(GraphMLTag.GRAPH.toString());
+        out.writeAttribute("edgedefault", "directed");
+        writeData(pGraphData, 2);
+      } catch (XMLStreamException e) {
+        throw toIOException(e);
+      }
+    }
+
+    /** Writes a node with the given data (in the given order). */
+    public void writeNode(String pNodeId, List<Map.Entry<KeyDef, String>> pData)
+        throws IOException {
+      writeElement(GraphMLTag.NODE, ImmutableMap.of("id", pNodeId), pData);
+    }
+
+    /** Writes an edge with the given data (in the given order). */
+    public void writeEdge(String pSource, String pTarget, List<Map.Entry<KeyDef, String>> pData)
+        throws IOException {
+      writeElement(GraphMLTag.EDGE, ImmutableMap.of("source", pSource, "target", pTarget), pData);
+    }
+
+    /** Ends the document. No more nodes or edges can be written afterwards. */
+    public void finish() throws IOException {
+      try {
+        indent(1);
+        out.writeEndElement(); // graph
+        out.writeCharacters("\n");
+        out.writeEndElement(); // graphml
+        out.writeCharacters("\n");
+        out.flush();
+      } catch (XMLStreamException e) {
+        throw toIOException(e);
+      }
+    }
+
+    private void writeElement(
+        GraphMLTag pTag, Map<String, String> pAttributes, List<Map.Entry<KeyDef, String>> pData)
+        throws IOException {
+      try {
+        indent(2);
+        if (pData.isEmpty()) {
+          out.writeEmptyElement(pTag.toString());
+        } else {
+          out.writeStartElement(pTag.toString());
+        }
+        for (Map.Entry<String, String> attribute : pAttributes.entrySet()) {
+          out.writeAttribute(attribute.getKey(), attribute.getValue());
+        }
+        if (!pData.isEmpty()) {
+          writeData(pData, 3);
+          indent(2);
+          out.writeEndElement();
+        }
+      } catch (XMLStreamException e) {
+        throw toIOException(e);
+      }
+    }
+
+    private void writeData(List<Map.Entry<KeyDef, String>> pData, int pDepth)
+        throws XMLStreamException {
+      for (Map.Entry<KeyDef, String> data : pData) {
+        indent(pDepth);
+        out.writeStartElement(GraphMLTag.DATA.toString());
+        out.writeAttribute("key", data.getKey().id);
+        out.writeCharacters(data.getValue());
+        out.writeEndElement();
+      }
+    }
+
+    private void indent(int pDepth) throws XMLStreamException {
+      out.writeCharacters("\n" + " ".repeat(pDepth));
+    }
+
+    private static IOException toIOException(XMLStreamException pException) {
+      for (Throwable cause : Throwables.getCausalChain(pException)) {
+        if (cause instanceof IOException) {
+          return (IOException) cause;
+        }
+      }
+      return new IOException(pException);
+    }
+  }
+
   public static boolean handleAsEpsilonEdge(
       CFAEdge pEdge, CFAEdgeWithAdditionalInfo pAdditionalInfo) {
     if (pAdditionalInfo != null && !pAdditionalInfo.getInfos().isEmpty()) {
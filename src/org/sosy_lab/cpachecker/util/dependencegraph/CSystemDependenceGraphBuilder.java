@@ -8,10 +8,12 @@
 
 package org.sosy_lab.cpachecker.util.dependencegraph;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -20,11 +22,17 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import org.sosy_lab.common.Classes.UnexpectedCheckedException;
 import org.sosy_lab.common.ShutdownManager;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.FileOption;
+import org.sosy_lab.common.configuration.IntegerOption;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
 import org.sosy_lab.common.configuration.Option;
 import org.sosy_lab.common.configuration.Options;
@@ -116,6 +124,17 @@ public class CSystemDependenceGraphBuilder implements StatisticsProvider {
       description = "Whether to consider (data-)flow dependencies.")
   private boolean considerFlowDeps = true;
 
+  @Option(
+      secure = true,
+      name = "flowdeps.threads",
+      description =
+          "The number of threads used to compute flow dependencies. The flow dependencies of"
+              + " different functions are computed independently of each other and are inserted"
+              + " into the dependence graph in a fixed order, so the resulting graph does not"
+              + " depend on the number of threads.")
+  @IntegerOption(min = 1)
+  private int flowDependenceThreads = 1;
+
   @Option(
       secure = true,
       name = "considerPointees",
@@ -719,39 +738,104 @@ public class CSystemDependenceGraphBuilder implements StatisticsProvider {
     ImmutableMultimap<String, CFAEdge> complexTypeDeclarationEdges =
         getComplexTypeDeclarationEdges(globalEdges);
 
+    List<FunctionEntryNode> entryNodes = new ArrayList<>();
     for (FunctionEntryNode entryNode : cfa.getAllFunctionHeads()) {
+      if (!onlyReachableFunctions || pReachableFunctions.contains(entryNode.getFunction())) {
+        entryNodes.add(entryNode);
+      }
+    }
 
-      shutdownNotifier.shutdownIfNecessary();
+    DependenceConsumer dependenceConsumer =
+        (pDefEdge, pUseEdge, pCause, pIsDeclaration) ->
+            insertFlowDependency(
+                pointerState, foreignDefUseData, pDefEdge, pUseEdge, pCause, pIsDeclaration);
 
-      if (onlyReachableFunctions && !pReachableFunctions.contains(entryNode.getFunction())) {
-        continue;
-      }
+    if (flowDependenceThreads == 1 || entryNodes.size() < 2) {
+      for (FunctionEntryNode entryNode : entryNodes) {
 
-      DomTree<CFANode> domTree = DominanceUtils.createFunctionDomTree(entryNode);
+        shutdownNotifier.shutdownIfNecessary();
 
-      insertFunctionDeclarationEdge(functionDeclarationEdges, entryNode);
+        insertFunctionDeclarationEdge(functionDeclarationEdges, entryNode);
+        runFlowDepAnalysis(
+            entryNode,
+            globalEdges,
+            pointerState,
+            foreignDefUseData,
+            complexTypeDeclarationEdges,
+            dependenceConsumer);
+      }
+      return;
+    }
 
-      DependenceConsumer dependenceConsumer =
-          (pDefEdge, pUseEdge, pCause, pIsDeclaration) ->
-              insertFlowDependency(
-                  pointerState, foreignDefUseData, pDefEdge, pUseEdge, pCause, pIsDeclaration);
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.min(flowDependenceThreads, entryNodes.size()),
+            new ThreadFactoryBuilder().setNameFormat("flow-deps-%d").setDaemon(true).build());
+    try {
+      // the analyses of different functions only share immutable data, so they can run in
+      // parallel, but the dependencies are inserted in the order of the functions to make the
+      // node ids of the dependence graph independent of the thread scheduling
+      List<Future<List<FlowDependence>>> futures = new ArrayList<>(entryNodes.size());
+      for (FunctionEntryNode entryNode : entryNodes) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  shutdownNotifier.shutdownIfNecessary();
+                  List<FlowDependence> dependencies = new ArrayList<>();
+                  runFlowDepAnalysis(
+                      entryNode,
+                      globalEdges,
+                      pointerState,
+                      foreignDefUseData,
+                      complexTypeDeclarationEdges,
+                      (pDefEdge, pUseEdge, pCause, pIsDeclaration) ->
+                          dependencies.add(
+                              new FlowDependence(pDefEdge, pUseEdge, pCause, pIsDeclaration)));
+                  return dependencies;
+                }));
+      }
 
-      boolean isMain = entryNode.equals(cfa.getMainFunction());
+      for (int index = 0; index < entryNodes.size(); index++) {
+        insertFunctionDeclarationEdge(functionDeclarationEdges, entryNodes.get(index));
+        for (FlowDependence dependency : futures.get(index).get()) {
+          dependenceConsumer.accept(
+              dependency.defEdge, dependency.useEdge, dependency.cause, dependency.isDeclaration);
+        }
+      }
+    } catch (ExecutionException e) {
+      Throwable t = e.getCause();
+      Throwables.propagateIfPossible(t, CPAException.class, InterruptedException.class);
 
-      new FlowDepAnalysis(
-              domTree,
-              DomFrontiers.forDomTree(domTree),
-              entryNode,
-              isMain ? ImmutableList.of() : globalEdges,
-              defUseExtractor,
-              pointerState,
-              foreignDefUseData,
-              complexTypeDeclarationEdges,
-              dependenceConsumer)
-          .run();
+      throw new UnexpectedCheckedException("flow dependence computation", t);
+    } finally {
+      executor.shutdownNow();
     }
   }
 
+  private void runFlowDepAnalysis(
+      FunctionEntryNode pEntryNode,
+      ImmutableList<CFAEdge> pGlobalEdges,
+      GlobalPointerState pPointerState,
+      ForeignDefUseData pForeignDefUseData,
+      ImmutableMultimap<String, CFAEdge> pComplexTypeDeclarationEdges,
+      DependenceConsumer pDependenceConsumer) {
+
+    DomTree<CFANode> domTree = DominanceUtils.createFunctionDomTree(pEntryNode);
+    boolean isMain = pEntryNode.equals(cfa.getMainFunction());
+
+    new FlowDepAnalysis(
+            domTree,
+            DomFrontiers.forDomTree(domTree),
+            pEntryNode,
+            isMain ? ImmutableList.of() : pGlobalEdges,
+            defUseExtractor,
+            pPointerState,
+            pForeignDefUseData,
+            pComplexTypeDeclarationEdges,
+            pDependenceConsumer)
+        .run();
+  }
+
   private void insertControlDependencies(ImmutableSet<AFunctionDeclaration> pReachableFunctions) {
 
     for (FunctionEntryNode entryNode : cfa.getAllFunctionHeads()) {
@@ -874,6 +958,23 @@ public class CSystemDependenceGraphBuilder implements StatisticsProvider {
         });
   }
 
+  /** A flow dependence that was computed in parallel and still has to be inserted into the SDG. */
+  private static final class FlowDependence {
+
+    private final CFAEdge defEdge;
+    private final CFAEdge useEdge;
+    private final MemoryLocation cause;
+    private final boolean isDeclaration;
+
+    private FlowDependence(
+        CFAEdge pDefEdge, CFAEdge pUseEdge, MemoryLocation pCause, boolean pIsDeclaration) {
+      defEdge = pDefEdge;
+      useEdge = pUseEdge;
+      cause = pCause;
+      isDeclaration = pIsDeclaration;
+    }
+  }
+
   private static final class CSdgDotExporter
       extends SdgDotExporter<
           AFunctionDeclaration, CFAEdge, MemoryLocation, CSystemDependenceGraph.Node> {
@@ -47,8 +47,12 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
 
   // list of nodes where the node's index is equal to its id
   private final ImmutableList<N> nodes;
-  // list of nodes where the graph node's index is equal to its id
-  private final ImmutableList<GraphNode.ImmutableGraphNode<V, N>> graphNodes;
+  // lists of defined/used variables where the index is equal to the id of the node
+  private final ImmutableList<ImmutableSet<V>> defs;
+  private final ImmutableList<ImmutableSet<V>> uses;
+  // edges in compressed sparse row format, indexed by the predecessor/successor id
+  private final Adjacency leavingEdges;
+  private final Adjacency enteringEdges;
 
   // counters for nodes and edges per type
   private final TypeCounter<NodeType> nodeTypeCounter;
@@ -56,12 +60,18 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
 
   private SystemDependenceGraph(
       ImmutableList<N> pNodes,
-      ImmutableList<GraphNode.ImmutableGraphNode<V, N>> pGraphNodes,
+      ImmutableList<ImmutableSet<V>> pDefs,
+      ImmutableList<ImmutableSet<V>> pUses,
+      Adjacency pLeavingEdges,
+      Adjacency pEnteringEdges,
       TypeCounter<NodeType> pNodeTypeCounter,
       TypeCounter<EdgeType> pEdgeTypeCounter) {
 
     nodes = pNodes;
-    graphNodes = pGraphNodes;
+    defs = pDefs;
+    uses = pUses;
+    leavingEdges = pLeavingEdges;
+    enteringEdges = pEnteringEdges;
 
     nodeTypeCounter = pNodeTypeCounter;
     edgeTypeCounter = pEdgeTypeCounter;
@@ -76,7 +86,14 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
    * @param pSdg a SDG to create a copy of
    */
   protected SystemDependenceGraph(SystemDependenceGraph<V, N> pSdg) {
-    this(pSdg.nodes, pSdg.graphNodes, pSdg.nodeTypeCounter, pSdg.edgeTypeCounter);
+    this(
+        pSdg.nodes,
+        pSdg.defs,
+        pSdg.uses,
+        pSdg.leavingEdges,
+        pSdg.enteringEdges,
+        pSdg.nodeTypeCounter,
+        pSdg.edgeTypeCounter);
   }
 
   private static <N extends Node<?, ?, ?>> void throwExceptionForUnknownNode(N pNode) {
@@ -105,6 +122,23 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
     return graphNode;
   }
 
+  /**
+   * Returns the id of the specified node. Throws runtime exception if the node does not belong to
+   * this SDG or the specified node is {@code null}.
+   */
+  private int getNodeId(N pNode) {
+
+    Objects.requireNonNull(pNode, "node must not be null");
+
+    int nodeId = pNode.getId();
+
+    if (nodeId >= nodes.size() || !nodes.get(nodeId).equals(pNode)) {
+      throwExceptionForUnknownNode(pNode);
+    }
+
+    return nodeId;
+  }
+
   /**
    * Returns a new {@link SystemDependenceGraph} instance that contains no nodes and no edges.
    *
@@ -116,6 +150,9 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
     return new SystemDependenceGraph<>(
         ImmutableList.of(),
         ImmutableList.of(),
+        ImmutableList.of(),
+        Adjacency.EMPTY,
+        Adjacency.EMPTY,
         new TypeCounter<>(NodeType.values().length),
         new TypeCounter<>(EdgeType.values().length));
   }
@@ -231,7 +268,7 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
    * @throws IllegalArgumentException if the specified node does not belong to this SDG
    */
   public final ImmutableSet<V> getDefs(N pNode) {
-    return ImmutableSet.copyOf(getGraphNode(graphNodes, pNode).getDefs());
+    return defs.get(getNodeId(pNode));
   }
 
   /**
@@ -246,7 +283,7 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
    * @throws IllegalArgumentException if the specified node does not belong to this SDG
    */
   public final ImmutableSet<V> getUses(N pNode) {
-    return ImmutableSet.copyOf(getGraphNode(graphNodes, pNode).getUses());
+    return uses.get(getNodeId(pNode));
   }
 
   /**
@@ -290,7 +327,56 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
             GraphNode<V, N> next = pForwards ? successor : predecessor;
             waitlist.add(next);
 
-          } else if (nodeVisitResult == VisitResult.TERMINATE) {
+          } else if (edgeVisitResult == VisitResult.TERMINATE) {
+            return;
+          }
+        }
+
+      } else if (nodeVisitResult == VisitResult.TERMINATE) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Traverses this SDG using the specified start nodes, visitor, and direction.
+   *
+   * <p>Works like {@link #traverse(List, Collection, Visitor, boolean)}, but only uses the compact
+   * edge representation of a finished SDG.
+   */
+  private void traverse(Collection<N> pStartNodes, Visitor<N> pVisitor, boolean pForwards) {
+
+    Objects.requireNonNull(pStartNodes, "pStartNodes must not be null");
+    Objects.requireNonNull(pVisitor, "pVisitor must not be null");
+
+    Adjacency edges = pForwards ? leavingEdges : enteringEdges;
+    Deque<N> waitlist = new ArrayDeque<>();
+
+    for (N node : pStartNodes) {
+      waitlist.add(nodes.get(getNodeId(node)));
+    }
+
+    while (!waitlist.isEmpty()) {
+
+      N node = waitlist.remove();
+      VisitResult nodeVisitResult = pVisitor.visitNode(node);
+
+      if (nodeVisitResult == VisitResult.CONTINUE) {
+
+        int nodeId = node.getId();
+        int end = edges.getEnd(nodeId);
+
+        for (int index = edges.getStart(nodeId); index < end; index++) {
+
+          N adjacentNode = nodes.get(edges.getAdjacentNodeId(index));
+          N predecessor = pForwards ? node : adjacentNode;
+          N successor = pForwards ? adjacentNode : node;
+          VisitResult edgeVisitResult =
+              pVisitor.visitEdge(edges.getEdgeType(index), predecessor, successor);
+
+          if (edgeVisitResult == VisitResult.CONTINUE) {
+            waitlist.add(adjacentNode);
+          } else if (edgeVisitResult == VisitResult.TERMINATE) {
             return;
           }
         }
@@ -322,7 +408,7 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
    *     belong to this SDG
    */
   public final void traverse(Collection<N> pStartNodes, ForwardsVisitor<N> pVisitor) {
-    traverse(graphNodes, pStartNodes, pVisitor, true);
+    traverse(pStartNodes, pVisitor, true);
   }
 
   /**
@@ -346,7 +432,7 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
    *     belong to this SDG
    */
   public final void traverse(Collection<N> pStartNodes, BackwardsVisitor<N> pVisitor) {
-    traverse(graphNodes, pStartNodes, pVisitor, false);
+    traverse(pStartNodes, pVisitor, false);
   }
 
   /**
@@ -935,42 +1021,6 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
         uses.add(pVariable);
       }
     }
-
-    private static class ImmutableGraphNode<V, N extends Node<?, ?, V>> extends GraphNode<V, N> {
-
-      private ImmutableList<GraphEdge<V, N>> enteringEdges;
-      private ImmutableList<GraphEdge<V, N>> leavingEdges;
-
-      private ImmutableSet<V> defs;
-      private ImmutableSet<V> uses;
-
-      private ImmutableGraphNode(N pNode, ImmutableSet<V> pDefs, ImmutableSet<V> pUses) {
-        super(pNode);
-
-        defs = pDefs;
-        uses = pUses;
-      }
-
-      @Override
-      ImmutableList<GraphEdge<V, N>> getEnteringEdges() {
-        return enteringEdges;
-      }
-
-      @Override
-      ImmutableList<GraphEdge<V, N>> getLeavingEdges() {
-        return leavingEdges;
-      }
-
-      @Override
-      ImmutableSet<V> getDefs() {
-        return defs;
-      }
-
-      @Override
-      ImmutableSet<V> getUses() {
-        return uses;
-      }
-    }
   }
 
   /**
@@ -1042,6 +1092,51 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
     }
   }
 
+  /**
+   * Edges of a finished SDG in compressed sparse row format.
+   *
+   * <p>The edges of the node with id {@code i} are stored at the indices {@code offsets[i]}
+   * (inclusive) to {@code offsets[i + 1]} (exclusive) of {@code adjacentNodeIds} and {@code
+   * edgeTypes}. Compared to a {@link GraphEdge} object per edge, this only requires a few bytes per
+   * edge and keeps the edges of a node next to each other in memory.
+   */
+  private static final class Adjacency {
+
+    private static final EdgeType[] EDGE_TYPES = EdgeType.values();
+
+    private static final Adjacency EMPTY = new Adjacency(new int[] {0}, new int[0], new byte[0]);
+
+    private final int[] offsets;
+    private final int[] adjacentNodeIds;
+    private final byte[] edgeTypes;
+
+    private Adjacency(int[] pOffsets, int[] pAdjacentNodeIds, byte[] pEdgeTypes) {
+
+      assert pAdjacentNodeIds.length == pEdgeTypes.length;
+      assert pOffsets[pOffsets.length - 1] == pAdjacentNodeIds.length;
+
+      offsets = pOffsets;
+      adjacentNodeIds = pAdjacentNodeIds;
+      edgeTypes = pEdgeTypes;
+    }
+
+    private int getStart(int pNodeId) {
+      return offsets[pNodeId];
+    }
+
+    private int getEnd(int pNodeId) {
+      return offsets[pNodeId + 1];
+    }
+
+    private int getAdjacentNodeId(int pIndex) {
+      return adjacentNodeIds[pIndex];
+    }
+
+    private EdgeType getEdgeType(int pIndex) {
+      return EDGE_TYPES[edgeTypes[pIndex]];
+    }
+  }
+
   /**
    * Builder for system dependence graphs. Instances of a builder can only be used once. It's not
    * possible to build multiple SDGs with one and the same builder. Calling {@link #build()}
@@ -1285,51 +1380,59 @@ public class SystemDependenceGraph<V, N extends SystemDependenceGraph.Node<?, ?,
      */
     public SystemDependenceGraph<V, N> build() {
 
-      ImmutableList.Builder<GraphNode.ImmutableGraphNode<V, N>> immutableGraphNodesBuilder =
-          ImmutableList.builderWithExpectedSize(graphNodes.size());
-      List<ImmutableList.Builder<GraphEdge<V, N>>> immutableEnteringEdges =
-          new ArrayList<>(graphNodes.size());
-      List<ImmutableList.Builder<GraphEdge<V, N>>> immutableLeavingEdges =
-          new ArrayList<>(graphNodes.size());
-
-      for (GraphNode.MutableGraphNode<V, N> mutableGraphNode : graphNodes) {
-        immutableGraphNodesBuilder.add(
-            new GraphNode.ImmutableGraphNode<>(
-                mutableGraphNode.getNode(),
-                ImmutableSet.copyOf(mutableGraphNode.getDefs()),
-                ImmutableSet.copyOf(mutableGraphNode.getUses())));
-        immutableEnteringEdges.add(
-            ImmutableList.builderWithExpectedSize(mutableGraphNode.getEnteringEdgeCount()));
-        immutableLeavingEdges.add(
-            ImmutableList.builderWithExpectedSize(mutableGraphNode.getLeavingEdgeCount()));
+      int nodeCount = graphNodes.size();
+      ImmutableList.Builder<ImmutableSet<V>> defsBuilder =
+          ImmutableList.builderWithExpectedSize(nodeCount);
+      ImmutableList.Builder<ImmutableSet<V>> usesBuilder =
+          ImmutableList.builderWithExpectedSize(nodeCount);
+      // many nodes define/use the same variables, so equal sets are only stored once
+      Map<ImmutableSet<V>, ImmutableSet<V>> variableSets = new HashMap<>();
+
+      int[] leavingOffsets = new int[nodeCount + 1];
+      int[] enteringOffsets = new int[nodeCount + 1];
+
+      for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+        GraphNode.MutableGraphNode<V, N> mutableGraphNode = graphNodes.get(nodeId);
+        ImmutableSet<V> nodeDefs = ImmutableSet.copyOf(mutableGraphNode.getDefs());
+        defsBuilder.add(variableSets.computeIfAbsent(nodeDefs, Function.identity()));
+        ImmutableSet<V> nodeUses = ImmutableSet.copyOf(mutableGraphNode.getUses());
+        usesBuilder.add(variableSets.computeIfAbsent(nodeUses, Function.identity()));
+        leavingOffsets[nodeId + 1] =
+            leavingOffsets[nodeId] + mutableGraphNode.getLeavingEdgeCount();
+        enteringOffsets[nodeId + 1] =
+            enteringOffsets[nodeId] + mutableGraphNode.getEnteringEdgeCount();
       }
 
-      ImmutableList<GraphNode.ImmutableGraphNode<V, N>> immutableGraphNodes =
-          immutableGraphNodesBuilder.build();
-
-      for (GraphNode.MutableGraphNode<V, N> mutableGraphNode : graphNodes) {
-        int predecessorId = mutableGraphNode.getNode().getId();
-        for (GraphEdge<V, N> graphEdge : mutableGraphNode.getLeavingEdges()) {
+      int edgeCount = leavingOffsets[nodeCount];
+      int[] successorIds = new int[edgeCount];
+      byte[] leavingEdgeTypes = new byte[edgeCount];
+      int[] predecessorIds = new int[edgeCount];
+      byte[] enteringEdgeTypes = new byte[edgeCount];
+      // next free index for an entering edge of a node
+      int[] enteringIndices = Arrays.copyOf(enteringOffsets, nodeCount);
+
+      for (int predecessorId = 0; predecessorId < nodeCount; predecessorId++) {
+        int leavingIndex = leavingOffsets[predecessorId];
+        for (GraphEdge<V, N> graphEdge : graphNodes.get(predecessorId).getLeavingEdges()) {
           int successorId = graphEdge.getSuccessor().getNode().getId();
-          GraphEdge<V, N> immutableGraphEdge =
-              new GraphEdge<>(
-                  graphEdge.getType(),
-                  immutableGraphNodes.get(predecessorId),
-                  immutableGraphNodes.get(successorId));
-          immutableLeavingEdges.get(predecessorId).add(immutableGraphEdge);
-          immutableEnteringEdges.get(successorId).add(immutableGraphEdge);
-        }
-      }
+          byte edgeType = (byte) graphEdge.getType().ordinal();
 
-      for (int index = 0; index < immutableGraphNodes.size(); index++) {
-        GraphNode.ImmutableGraphNode<V, N> immutableGraphNode = immutableGraphNodes.get(index);
-        immutableGraphNode.enteringEdges = immutableEnteringEdges.get(index).build();
-        immutableGraphNode.leavingEdges = immutableLeavingEdges.get(index).build();
+          successorIds[leavingIndex] = successorId;
+          leavingEdgeTypes[leavingIndex] = edgeType;
+          leavingIndex++;
+
+          int enteringIndex = enteringIndices[successorId]++;
+          predecessorIds[enteringIndex] = predecessorId;
+          enteringEdgeTypes[enteringIndex] = edgeType;
+        }
       }
 
       return new SystemDependenceGraph<>(
           ImmutableList.copyOf(nodes),
-          immutableGraphNodes,
+          defsBuilder.build(),
+          usesBuilder.build(),
+          new Adjacency(leavingOffsets, successorIds, leavingEdgeTypes),
+          new Adjacency(enteringOffsets, predecessorIds, enteringEdgeTypes),
           nodeTypeCounter.copy(),
           edgeTypeCounter.copy());
     }
@@ -11,11 +11,10 @@ package org.sosy_lab.cpachecker.util.slicing;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import java.io.PrintStream;
 import java.util.Collection;
@@ -26,6 +25,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.sosy_lab.common.ShutdownNotifier;
 import org.sosy_lab.common.configuration.Configuration;
 import org.sosy_lab.common.configuration.InvalidConfigurationException;
@@ -61,11 +61,20 @@ import org.sosy_lab.cpachecker.util.statistics.StatisticsWriter;
  * <p>Implementation detail: this slicing method is based on "Interprocedural Slicing Using
  * Dependence Graphs" (Horwitz et al.).
  *
+ * <p>The dependence graph is always built completely for the whole program before the first
+ * slice, independent of the slicing criteria. Only the index from CFA edges to the nodes of the
+ * dependence graph is created on demand, and it is reused by all slices of this slicer, such that
+ * repeated slices for different criteria only pay for their traversals of the graph.
+ *
  * @see SlicerFactory
  */
 public class StaticSlicer extends AbstractSlicer implements StatisticsProvider {
 
   private final CSystemDependenceGraph sdg;
+  // index from CFA edges to SDG nodes, created on first use and shared by all slices, as the SDG
+  // does not change between them (the SDG itself is complete from the start)
+  private @Nullable ImmutableListMultimap<CFAEdge, CSystemDependenceGraph.Node> nodesPerCfaEdge =
+      null;
 
   private final StatCounter sliceCount = new StatCounter("Number of slicing procedures");
   private final StatTimer slicingTime = new StatTimer(StatKind.SUM, "Time needed for slicing");
@@ -94,19 +103,24 @@ public class StaticSlicer extends AbstractSlicer implements StatisticsProvider {
     partiallyRelevantEdges = pPartiallyRelevantEdges;
   }
 
-  private Function<CFAEdge, Iterable<CSystemDependenceGraph.Node>>
-      createCfaEdgeToSdgNodesFunction() {
+  private Function<CFAEdge, Iterable<CSystemDependenceGraph.Node>> getCfaEdgeToSdgNodesFunction() {
+
+    if (nodesPerCfaEdge == null) {
 
-    Multimap<CFAEdge, CSystemDependenceGraph.Node> nodesPerCfaNode = ArrayListMultimap.create();
+      ImmutableListMultimap.Builder<CFAEdge, CSystemDependenceGraph.Node> nodesPerCfaEdgeBuilder =
+          ImmutableListMultimap.builder();
 
-    for (CSystemDependenceGraph.Node node : sdg.getNodes()) {
-      Optional<CFAEdge> optCfaEdge = node.getStatement();
-      if (optCfaEdge.isPresent()) {
-        nodesPerCfaNode.put(optCfaEdge.orElseThrow(), node);
+      for (CSystemDependenceGraph.Node node : sdg.getNodes()) {
+        Optional<CFAEdge> optCfaEdge = node.getStatement();
+        if (optCfaEdge.isPresent()) {
+          nodesPerCfaEdgeBuilder.put(optCfaEdge.orElseThrow(), node);
+        }
       }
+
+      nodesPerCfaEdge = nodesPerCfaEdgeBuilder.build();
     }
 
-    return cfaEdge -> nodesPerCfaNode.get(cfaEdge);
+    return nodesPerCfaEdge::get;
   }
 
   @Override
@@ -119,7 +133,7 @@ public class StaticSlicer extends AbstractSlicer implements StatisticsProvider {
 
     Set<CSystemDependenceGraph.Node> startNodes = new LinkedHashSet<>();
     Function<CFAEdge, Iterable<CSystemDependenceGraph.Node>> cfaEdgeToSdgNodes =
-        createCfaEdgeToSdgNodesFunction();
+        getCfaEdgeToSdgNodesFunction();
 
     for (CFAEdge criteriaEdge : criteriaEdges) {
       Iterables.addAll(startNodes, cfaEdgeToSdgNodes.apply(criteriaEdge));
@@ -16,7 +16,6 @@ import com.google.common.base.Joiner;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
 import java.io.IOException;
@@ -121,6 +120,9 @@ public class VariableClassificationBuilder implements StatisticsProvider {
 
   private final Dependencies dependencies = new Dependencies();
 
+  private final Multiset<String> assumedVariables = HashMultiset.create();
+  private final Multiset<String> assignedVariables = HashMultiset.create();
+
   private @Nullable ImmutableSet<String> relevantVariables;
   private @Nullable ImmutableMultimap<CCompositeType, String> relevantFields;
   private @Nullable ImmutableMultimap<CCompositeType, String> addressedFields;
@@ -251,8 +253,8 @@ public class VariableClassificationBuilder implements StatisticsProvider {
             intEqualPartitions,
             intAddPartitions,
             dependencies.edgeToPartition,
-            extractAssumedVariables(cfa.getAllNodes()),
-            extractAssignedVariables(cfa.getAllNodes()));
+            assumedVariables,
+            assignedVariables);
     stats.buildTimer.stop();
 
     stats.exportTimer.start();
@@ -400,7 +402,8 @@ public class VariableClassificationBuilder implements StatisticsProvider {
 
   /**
    * This function iterates over all edges of the cfa, collects all variables and orders them into
-   * different sets, i.e. nonBoolean and nonIntEuqalNumber.
+   * different sets, i.e. nonBoolean and nonIntEuqalNumber. The assumed and assigned variables are
+   * collected in the same pass, so the edges of the cfa are only visited once.
    */
   private void collectVars(CFA cfa) throws UnrecognizedCodeException {
     Collection<CFANode> nodes = cfa.getAllNodes();
@@ -411,6 +414,8 @@ public class VariableClassificationBuilder implements StatisticsProvider {
         varFieldDependencies =
             varFieldDependencies.withDependencies(
                 VariableAndFieldRelevancyComputer.handleEdge(cfa, edge));
+        collectAssumedVariables(edge);
+        collectAssignedVariables(edge);
       }
     }
     addressedVariables = varFieldDependencies.computeAddressedVariables();
@@ -422,48 +427,31 @@ public class VariableClassificationBuilder implements StatisticsProvider {
   }
 
   /**
-   * This method extracts all variables (i.e., their qualified name), that occur in an assumption.
+   * This method collects all variables (i.e., their qualified name), that occur in the given edge
+   * if it is an assumption.
    */
-  private Multiset<String> extractAssumedVariables(Collection<CFANode> nodes) {
-    Multiset<String> assumeVariables = HashMultiset.create();
-
-    for (CFANode node : nodes) {
-      for (CAssumeEdge edge : Iterables.filter(leavingEdges(node), CAssumeEdge.class)) {
-        assumeVariables.addAll(
-            CFAUtils.getIdExpressionsOfExpression(edge.getExpression())
-                .transform(id -> id.getDeclaration().getQualifiedName())
-                .toSet());
-      }
+  private void collectAssumedVariables(CFAEdge pEdge) {
+    if (pEdge instanceof CAssumeEdge) {
+      assumedVariables.addAll(
+          CFAUtils.getIdExpressionsOfExpression(((CAssumeEdge) pEdge).getExpression())
+              .transform(id -> id.getDeclaration().getQualifiedName())
+              .toSet());
     }
-
-    return assumeVariables;
   }
 
   /**
-   * This method extracts all variables (i.e., their qualified name), that occur as left-hand side
-   * in an assignment.
+   * This method collects all variables (i.e., their qualified name), that occur as left-hand side
+   * in the given edge if it is an assignment.
    */
-  private Multiset<String> extractAssignedVariables(Collection<CFANode> nodes) {
-    Multiset<String> assignedVariables = HashMultiset.create();
-
-    for (CFANode node : nodes) {
-      for (CFAEdge leavingEdge : leavingEdges(node)) {
-        if (leavingEdge instanceof AStatementEdge) {
-          AStatementEdge edge = (AStatementEdge) leavingEdge;
-          if (!(edge.getStatement() instanceof CAssignment)) {
-            continue;
-          }
-
-          CAssignment assignment = (CAssignment) edge.getStatement();
-          assignedVariables.addAll(
-              CFAUtils.getIdExpressionsOfExpression(assignment.getLeftHandSide())
-                  .transform(id -> id.getDeclaration().getQualifiedName())
-                  .toSet());
-        }
-      }
+  private void collectAssignedVariables(CFAEdge pEdge) {
+    if (pEdge instanceof AStatementEdge
+        && ((AStatementEdge) pEdge).getStatement() instanceof CAssignment) {
+      CAssignment assignment = (CAssignment) ((AStatementEdge) pEdge).getStatement();
+      assignedVariables.addAll(
+          CFAUtils.getIdExpressionsOfExpression(assignment.getLeftHandSide())
+              .transform(id -> id.getDeclaration().getQualifiedName())
+              .toSet());
     }
-
-    return assignedVariables;
   }
 
   /** switch to edgeType and handle all expressions, that could be part of the edge. */
@@ -0,0 +1,136 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.variableclassification;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+/**
+ * Groups the variables of a program into packs that can be analyzed independently by a relational
+ * domain.
+ *
+ * <p>The packs are computed from the dependency {@link Partition}s of a {@link
+ * VariableClassification}: variables that never occur together in an assignment or assumption are
+ * never related, so there is no benefit in tracking them in one relational state. Small partitions
+ * are combined into one pack as long as the pack stays below the maximal size, such that the number
+ * of packs stays small. Partitions that are larger than the maximal size are split, which loses
+ * relations between variables in different parts of the partition but is still sound.
+ *
+ * <p>Variables that are unknown to the variable classification (e.g. temporary variables introduced
+ * by an analysis) belong to every pack.
+ */
+public final class VariablePacks {
+
+  /** Pack index that is returned for variables that belong to every pack. */
+  public static final int ALL_PACKS = -1;
+
+  private final ImmutableList<ImmutableSet<String>> packs;
+  private final ImmutableMap<String, Integer> packOfVariable;
+
+  private VariablePacks(List<ImmutableSet<String>> pPacks) {
+    packs = ImmutableList.copyOf(pPacks);
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 0; i < packs.size(); i++) {
+      for (String var : packs.get(i)) {
+        index.put(var, i);
+      }
+    }
+    packOfVariable = ImmutableMap.copyOf(index);
+  }
+
+  /**
+   * Computes the packs for the partitions of the given variable classification.
+   *
+   * @param pVarClassification the variable classification to take the partitions from
+   * @param pMaxPackSize the maximal number of variables in one pack, must be positive
+   */
+  public static VariablePacks fromVariableClassification(
+      VariableClassification pVarClassification, int pMaxPackSize) {
+    return fromPartitions(pVarClassification.getPartitions(), pMaxPackSize);
+  }
+
+  /**
+   * Computes packs of at most the given size from a set of disjoint partitions. Partitions are
+   * processed in their natural order, which keeps the packs deterministic between runs.
+   */
+  public static VariablePacks fromPartitions(Collection<Partition> pPartitions, int pMaxPackSize) {
+    List<ImmutableSet<String>> result = new ArrayList<>();
+    ImmutableSet.Builder<String> current = ImmutableSet.builder();
+    int currentSize = 0;
+
+    for (Partition partition : new TreeSet<>(pPartitions)) {
+      Collection<String> vars = partition.getVars();
+      if (vars.isEmpty()) {
+        continue;
+      }
+
+      if (vars.size() > pMaxPackSize) {
+        // too large to be analyzed together, split it into chunks of the maximal size
+        for (List<String> chunk : Iterables.partition(vars, pMaxPackSize)) {
+          result.add(ImmutableSet.copyOf(chunk));
+        }
+        continue;
+      }
+
+      if (currentSize + vars.size() > pMaxPackSize) {
+        result.add(current.build());
+        current = ImmutableSet.builder();
+        currentSize = 0;
+      }
+      current.addAll(vars);
+      currentSize += vars.size();
+    }
+
+    if (currentSize > 0) {
+      result.add(current.build());
+    }
+    return new VariablePacks(result);
+  }
+
+  /** Returns the number of packs. There is always at least one pack. */
+  public int size() {
+    return Math.max(1, packs.size());
+  }
+
+  /** Returns the variables (qualified names) of the pack with the given index. */
+  public ImmutableSet<String> getPack(int pPackIndex) {
+    return pPackIndex < packs.size() ? packs.get(pPackIndex) : ImmutableSet.of();
+  }
+
+  /**
+   * Returns the index of the pack the given variable (qualified name) belongs to, or {@link
+   * #ALL_PACKS} if the variable is unknown and thus belongs to every pack.
+   */
+  public int getPackIndex(String pVariable) {
+    return packOfVariable.getOrDefault(checkNotNull(pVariable), ALL_PACKS);
+  }
+
+  /** Checks whether the given memory location is tracked in the pack with the given index. */
+  public boolean isInPack(MemoryLocation pVariable, int pPackIndex) {
+    MemoryLocation owner = pVariable.isReference() ? pVariable.getReferenceStart() : pVariable;
+    int packIndex = getPackIndex(owner.getExtendedQualifiedName());
+    return packIndex == ALL_PACKS || packIndex == pPackIndex;
+  }
+
+  @Override
+  public String toString() {
+    return "VariablePacks" + packs;
+  }
+}
@@ -0,0 +1,60 @@
+// This file is part of CPAchecker,
+// a tool for configurable software verification:
+// https://cpachecker.sosy-lab.org
+//
+// SPDX-FileCopyrightText: 2007-2020 Dirk Beyer <https://www.sosy-lab.org>
+//
+// SPDX-License-Identifier: Apache-2.0
+
+package org.sosy_lab.cpachecker.util.variableclassification;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.sosy_lab.cpachecker.util.states.MemoryLocation;
+
+public class VariablePacksTest {
+
+  @Test
+  public void testIndependentPartitionsAreCombined() {
+    Dependencies deps = new Dependencies();
+    deps.add("main::a", "main::b");
+    deps.addVar("main::c");
+    deps.addVar("main::d");
+
+    VariablePacks packs = VariablePacks.fromPartitions(deps.partitions, 3);
+
+    assertThat(packs.size()).isEqualTo(2);
+    assertThat(packs.getPackIndex("main::a")).isEqualTo(packs.getPackIndex("main::b"));
+    assertThat(packs.getPackIndex("main::a")).isNotEqualTo(packs.getPackIndex("main::d"));
+  }
+
+  @Test
+  public void testLargePartitionIsSplit() {
+    Dependencies deps = new Dependencies();
+    deps.add("x", "y");
+    deps.add("y", "z");
+
+    VariablePacks packs = VariablePacks.fromPartitions(deps.partitions, 2);
+
+    assertThat(packs.size()).isEqualTo(2);
+    assertThat(packs.getPack(0)).hasSize(2);
+    assertThat(packs.getPack(1)).hasSize(1);
+  }
+
+  @Test
+  public void testUnknownVariableIsInEveryPack() {
+    Dependencies deps = new Dependencies();
+    deps.addVar("x");
+    deps.addVar("y");
+
+    VariablePacks packs = VariablePacks.fromPartitions(deps.partitions, 1);
+    MemoryLocation unknown = MemoryLocation.forIdentifier("unknown");
+
+    assertThat(packs.getPackIndex("unknown")).isEqualTo(VariablePacks.ALL_PACKS);
+    assertThat(packs.isInPack(unknown, 0)).isTrue();
+    assertThat(packs.isInPack(unknown, 1)).isTrue();
+    assertThat(packs.isInPack(MemoryLocation.forIdentifier("x"), packs.getPackIndex("y")))
+        .isFalse();
+  }
+}